@@ -0,0 +1,89 @@
+package examen.benchmarks;
+
+import examen.models.AdjacentMineCalculator;
+import examen.models.Board;
+import examen.models.Box;
+import examen.models.SlidingWindowAdjacentMineCalculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el cálculo de minas adyacentes sobre un tablero ya generado.
+ *
+ * El calculador original reserva un mapa de visitados por casilla, por lo que solo se mide
+ * en tamaños pequeños; el de ventana deslizante se mide en todos.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AdjacentMinesBenchmark {
+
+    /**
+     * Tableros para el calculador original.
+     */
+    @State(Scope.Benchmark)
+    public static class SmallBoard {
+        @Param({ "9x9", "16x30", "100x100" })
+        public String size;
+
+        @Param({ "0.12", "0.20", "0.35" })
+        public double density;
+
+        final AdjacentMineCalculator calculator = new AdjacentMineCalculator();
+        Box[][] boxes;
+
+        @Setup
+        public void setUp() {
+            boxes = BenchmarkBoards.generatedBoard(size, density, "grid").getBoxes();
+        }
+    }
+
+    /**
+     * Tableros para el calculador de ventana deslizante.
+     */
+    @State(Scope.Benchmark)
+    public static class AnyBoard {
+        @Param({ "9x9", "16x30", "100x100", "1000x1000", "4000x4000" })
+        public String size;
+
+        @Param({ "0.12", "0.20", "0.35" })
+        public double density;
+
+        @Param({ "grid", "bitboard" })
+        public String storage;
+
+        final SlidingWindowAdjacentMineCalculator calculator = new SlidingWindowAdjacentMineCalculator();
+        Board board;
+
+        @Setup
+        public void setUp() {
+            board = BenchmarkBoards.generatedBoard(size, density, storage);
+        }
+    }
+
+    @Benchmark
+    public Box[][] recursiveCalculator(SmallBoard state) {
+        state.calculator.calculateAdjacentMines(state.boxes);
+        return state.boxes;
+    }
+
+    @Benchmark
+    public Board slidingWindowCalculator(AnyBoard state) {
+        state.calculator.calculateAdjacentMinesInStorage(state.board.getCells());
+        return state.board;
+    }
+}
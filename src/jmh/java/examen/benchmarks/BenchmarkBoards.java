@@ -0,0 +1,100 @@
+package examen.benchmarks;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.Game;
+import examen.models.MinedBox;
+import examen.models.Player;
+
+import java.util.Random;
+
+/**
+ * Utilidades comunes para construir los tableros de los benchmarks.
+ */
+final class BenchmarkBoards {
+    static final long SEED = 42L; // Semilla fija para que todas las ejecuciones midan el mismo tablero.
+
+    private BenchmarkBoards() {
+    }
+
+    /**
+     * Interpreta un tamaño con formato "FILASxCOLUMNAS".
+     *
+     * @param size Tamaño del tablero, por ejemplo "16x30".
+     * @return Arreglo con filas y columnas.
+     */
+    static int[] parseSize(String size) {
+        String[] parts = size.split("x");
+        return new int[] { Integer.parseInt(parts[0]), Integer.parseInt(parts[1]) };
+    }
+
+    /**
+     * Crea un tablero sin generar.
+     *
+     * @param size Tamaño con formato "FILASxCOLUMNAS".
+     * @param density Proporción de celdas con mina.
+     * @param storage "grid" para la matriz de casillas o "bitboard" para el almacenamiento compacto.
+     * @param seed Semilla del generador aleatorio.
+     * @return Tablero configurado.
+     */
+    static Board newBoard(String size, double density, String storage, long seed) {
+        int[] dims = parseSize(size);
+        int mines = Math.max(1, (int) ((long) dims[0] * dims[1] * density));
+        Board.BoardBuilder builder = Board.builder()
+                .rows(dims[0])
+                .columns(dims[1])
+                .totalMines(mines)
+                .random(new Random(seed));
+        if ("bitboard".equals(storage)) {
+            builder.storageFactory(BitBoardStorage::new);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Crea y genera un tablero.
+     *
+     * @param size Tamaño con formato "FILASxCOLUMNAS".
+     * @param density Proporción de celdas con mina.
+     * @param storage Modo de almacenamiento.
+     * @return Tablero generado.
+     */
+    static Board generatedBoard(String size, double density, String storage) {
+        Board board = newBoard(size, density, storage, SEED);
+        board.generateBoard();
+        return board;
+    }
+
+    /**
+     * Envuelve un tablero en una partida.
+     *
+     * @param board Tablero de la partida.
+     * @return Partida con un jugador de prueba.
+     */
+    static Game gameOf(Board board) {
+        return Game.builder().board(board).player(Player.builder().name("Benchmark").build()).build();
+    }
+
+    /**
+     * Busca la celda sin mina con menos minas alrededor, que produce la mayor cascada.
+     *
+     * @param board Tablero generado.
+     * @return Fila y columna de la celda.
+     */
+    static int[] largestCascadeStart(Board board) {
+        int[] best = null;
+        int bestCount = Integer.MAX_VALUE;
+        for (int row = 0; row < board.getRows() && bestCount > 0; row++) {
+            for (int col = 0; col < board.getColumns() && bestCount > 0; col++) {
+                if (!(board.getBox(row, col) instanceof MinedBox)) {
+                    int count = board.getCells().getAdjacentMines(row, col);
+                    if (count < bestCount) {
+                        bestCount = count;
+                        best = new int[] { row, col };
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,56 @@
+package examen.benchmarks;
+
+import examen.models.Board;
+import examen.models.ParallelBoardGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link Board#generateBoard()}: validación, inicialización, colocación de minas y
+ * cálculo de minas adyacentes. Con {@code generator=parallel} las minas y los conteos se
+ * calculan por franjas con {@link ParallelBoardGenerator} sobre el pool común (en el hilo
+ * actual por debajo de {@link ParallelBoardGenerator#MIN_PARALLEL_CELLS} celdas).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GenerationBenchmark {
+
+    @Param({ "9x9", "16x30", "100x100", "1000x1000", "4000x4000" })
+    public String size;
+
+    @Param({ "0.12", "0.20", "0.35" })
+    public double density;
+
+    @Param({ "grid", "bitboard" })
+    public String storage;
+
+    @Param({ "sequential", "parallel" })
+    public String generator;
+
+    private long seed;
+
+    @Benchmark
+    public Board generateBoard() {
+        Board board = BenchmarkBoards.newBoard(size, density, storage, seed++);
+        if ("parallel".equals(generator)) {
+            board.setParallelGenerator(new ParallelBoardGenerator(seed));
+        }
+        board.generateBoard();
+        return board;
+    }
+}
@@ -0,0 +1,126 @@
+package examen.benchmarks;
+
+import examen.models.Game;
+import examen.repositories.BinaryGameStateManager;
+import examen.repositories.GamePersistenceInterface.IGameLoadResult;
+import examen.repositories.GameStateManager;
+import examen.repositories.GameStateManager.GameLoadResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el guardado y la carga del estado del juego.
+ *
+ * El formato CSV es textual y lento en tableros enormes, por lo que se limita a 100x100; el
+ * formato binario se mide en todos los tamaños. El CSV usa la ruta fija de
+ * {@link GameStateManager}, por lo que la partida guardada existente se respalda y se restaura.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersistenceBenchmark {
+    private static final Path CSV_STATE = Paths.get("src/main/resources/files/minesweeper_state.csv");
+
+    /**
+     * Partida para el formato CSV.
+     */
+    @State(Scope.Benchmark)
+    public static class CsvState {
+        @Param({ "9x9", "16x30", "100x100" })
+        public String size;
+
+        @Param({ "0.12", "0.20", "0.35" })
+        public double density;
+
+        Game game;
+        private Path backup;
+
+        @Setup
+        public void setUp() throws IOException {
+            game = BenchmarkBoards.gameOf(BenchmarkBoards.generatedBoard(size, density, "grid"));
+            if (Files.exists(CSV_STATE)) {
+                backup = Files.createTempFile("minesweeper_state", ".csv");
+                Files.copy(CSV_STATE, backup, StandardCopyOption.REPLACE_EXISTING);
+            }
+            GameStateManager.saveGameState(game);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            if (backup != null) {
+                Files.move(backup, CSV_STATE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(CSV_STATE);
+            }
+        }
+    }
+
+    /**
+     * Partida para el formato binario, en un archivo temporal.
+     */
+    @State(Scope.Benchmark)
+    public static class BinaryState {
+        @Param({ "9x9", "16x30", "100x100", "1000x1000", "4000x4000" })
+        public String size;
+
+        @Param({ "0.12", "0.20", "0.35" })
+        public double density;
+
+        Game game;
+        BinaryGameStateManager manager;
+        private Path file;
+
+        @Setup
+        public void setUp() throws IOException {
+            game = BenchmarkBoards.gameOf(BenchmarkBoards.generatedBoard(size, density, "bitboard"));
+            file = Files.createTempFile("minesweeper_state", ".bin");
+            manager = new BinaryGameStateManager(file, true);
+            manager.saveGameState(game);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public void csvSave(CsvState state) {
+        GameStateManager.saveGameState(state.game);
+    }
+
+    @Benchmark
+    public GameLoadResult csvLoad(CsvState state) {
+        return GameStateManager.loadGameState();
+    }
+
+    @Benchmark
+    public void binarySave(BinaryState state) {
+        state.manager.saveGameState(state.game);
+    }
+
+    @Benchmark
+    public IGameLoadResult binaryLoad(BinaryState state) {
+        return state.manager.loadGameState();
+    }
+}
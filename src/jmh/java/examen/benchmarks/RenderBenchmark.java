@@ -0,0 +1,67 @@
+package examen.benchmarks;
+
+import examen.models.Board;
+import examen.models.DefaultBoxDisplayStrategy;
+import examen.models.StandardBoardRenderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link StandardBoardRenderer#printBoard(Board)} con la salida estándar redirigida a
+ * un flujo que descarta los bytes, de modo que no se mide la terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RenderBenchmark {
+
+    @Param({ "9x9", "16x30", "100x100", "1000x1000" })
+    public String size;
+
+    @Param({ "0.12", "0.20", "0.35" })
+    public double density;
+
+    @Param({ "grid", "bitboard" })
+    public String storage;
+
+    private final StandardBoardRenderer renderer = new StandardBoardRenderer(new DefaultBoxDisplayStrategy());
+    private Board board;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkBoards.generatedBoard(size, density, storage);
+        int[] start = BenchmarkBoards.largestCascadeStart(board);
+        board.revealAdjacent(start[0], start[1]); // Mezcla de casillas ocultas y reveladas.
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void printBoard() {
+        renderer.printBoard(board);
+    }
+}
@@ -0,0 +1,65 @@
+package examen.benchmarks;
+
+import examen.models.Board;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link Board#revealAdjacent(int, int)} desde la celda que produce la mayor cascada.
+ *
+ * Cada invocación parte de una copia sin revelar del tablero; la copia se prepara fuera
+ * de la medición. {@code zeroRegions} compara el relleno por líneas con el índice de regiones
+ * precalculado.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RevealBenchmark {
+
+    @Param({ "9x9", "16x30", "100x100", "1000x1000", "4000x4000" })
+    public String size;
+
+    @Param({ "0.05", "0.12", "0.20" })
+    public double density;
+
+    @Param({ "false", "true" })
+    public boolean zeroRegions;
+
+    private Board template;
+    private Board board;
+    private int[] start;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        template = BenchmarkBoards.newBoard(size, density, "bitboard", BenchmarkBoards.SEED);
+        template.setPrecomputeZeroRegions(zeroRegions);
+        template.generateBoard();
+        start = BenchmarkBoards.largestCascadeStart(template);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        board = template.snapshot();
+    }
+
+    @Benchmark
+    public int revealAdjacent() {
+        return board.revealAdjacent(start[0], start[1]);
+    }
+}
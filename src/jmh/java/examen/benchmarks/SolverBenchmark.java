@@ -0,0 +1,91 @@
+package examen.benchmarks;
+
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.MinedBox;
+import examen.solver.DeterministicSolver;
+import examen.solver.ProbabilityEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link DeterministicSolver} jugando una partida: tras el primer clic, se revela cada
+ * casilla deducida segura y se actualiza el solucionador con el delta de la jugada, hasta que
+ * no quedan deducciones. {@code playProbabilities} recalcula {@link ProbabilityEngine} en cada
+ * jugada y revela la casilla más segura hasta ganar o tocar una mina. El tablero y el primer
+ * clic se preparan fuera de la medición.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SolverBenchmark {
+
+    @Param({ "9x9", "16x30", "100x100" })
+    public String size;
+
+    @Param({ "0.12", "0.20" })
+    public double density;
+
+    @Param({ "grid", "bitboard" })
+    public String storage;
+
+    private long seed = BenchmarkBoards.SEED;
+    private Board board;
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        board = BenchmarkBoards.newBoard(size, density, storage, seed++);
+        board.setDeferredGeneration(true);
+        board.generateBoard();
+        board.revealAdjacent(board.getRows() / 2, board.getColumns() / 2);
+    }
+
+    @Benchmark
+    public int playDeductions() {
+        DeterministicSolver solver = new DeterministicSolver(board);
+        int moves = 0;
+        solver.solve();
+        for (int index = solver.pollSafe(); index >= 0; index = solver.pollSafe()) {
+            BoardDelta delta = new BoardDelta(board.getColumns());
+            board.revealAdjacent(index / board.getColumns(), index % board.getColumns(), delta);
+            solver.update(delta);
+            solver.solve();
+            moves++;
+        }
+        return moves;
+    }
+
+    @Benchmark
+    public int playProbabilities() {
+        ProbabilityEngine engine = new ProbabilityEngine(board);
+        int moves = 0;
+        while (board.getHiddenSafeCount() > 0) {
+            engine.compute();
+            int index = engine.safestHiddenCell();
+            int row = index / board.getColumns();
+            int col = index % board.getColumns();
+            if (board.getBox(row, col) instanceof MinedBox) {
+                break;
+            }
+            board.revealAdjacent(row, col);
+            moves++;
+        }
+        return moves;
+    }
+}
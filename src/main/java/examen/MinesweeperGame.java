@@ -3,8 +3,13 @@ package examen;
 import java.util.Scanner;
 
 import examen.controllers.GameController;
+import examen.models.AnsiIncrementalBoardRenderer;
+import examen.models.BoardPool;
 import examen.models.Game;
+import examen.models.ViewportBoardRenderer;
 import examen.repositories.GameStateManagerAdapter;
+import examen.repositories.MappedGameStateManager;
+import examen.repositories.WriteBehindGamePersistence;
 import examen.views.GameView;
 
 public class MinesweeperGame {
@@ -13,7 +18,27 @@ public class MinesweeperGame {
         GameView view = new GameView(scanner);
         Game game = Game.builder().build();
         GameController controller = new GameController(game, view);
-        controller.setGamePersistenceManager(new GameStateManagerAdapter());
+        if (Boolean.getBoolean("minesweeper.mapped")) {
+            MappedGameStateManager mapped = new MappedGameStateManager(); // El tablero vive en el archivo de estado.
+            controller.setGamePersistenceManager(mapped);
+            controller.setStorageFactory(mapped.storageFactory());
+        } else {
+            controller.setGamePersistenceManager(new WriteBehindGamePersistence(new GameStateManagerAdapter()));
+            if (Boolean.getBoolean("minesweeper.pool")) {
+                BoardPool pool = new BoardPool(controller::createBoard); // Tableros listos de los niveles clásicos.
+                pool.warm(9, 9, 10);
+                pool.warm(16, 16, 40);
+                pool.warm(16, 30, 99);
+                controller.setBoardPool(pool);
+            }
+        }
+        if (Boolean.getBoolean("minesweeper.ansi")) {
+            controller.setBoardRenderer(new AnsiIncrementalBoardRenderer()); // Redibujado incremental opcional.
+        } else {
+            controller.setBoardRenderer(new ViewportBoardRenderer( // Ventana para tableros grandes.
+                    Integer.getInteger("minesweeper.viewRows", 30),
+                    Integer.getInteger("minesweeper.viewColumns", 50)));
+        }
         controller.initializeGame();
         controller.start();
     }
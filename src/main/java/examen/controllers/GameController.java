@@ -2,15 +2,25 @@ package examen.controllers;
 
 import examen.exceptions.BoardException;
 import examen.exceptions.GameActionException;
+import examen.models.AnsiIncrementalBoardRenderer;
 import examen.models.Board;
+import examen.models.BoardPool;
+import examen.models.BoardInterfaces.ICellStorageFactory;
 import examen.models.Box;
 import examen.models.Game;
+import examen.models.GameEngine;
+import examen.models.GameEngine.MoveResult;
+import examen.models.GameEngine.Status;
+import examen.models.GameInterfaces.IBoardRenderer;
 import examen.models.MinedBox;
 import examen.models.Player;
+import examen.models.ViewportBoardRenderer;
 import examen.repositories.GamePersistenceInterface;
 import examen.repositories.GamePersistenceInterface.IGameLoadResult;
 import examen.views.GameView;
 
+import java.util.SplittableRandom;
+
 /**
  * Controlador principal para manejar la lógica del juego.
  */
@@ -18,6 +28,10 @@ public class GameController {
     private Game game;
     private final GameView view;
     private GamePersistenceInterface gamePersistenceManager;
+    private GameEngine engine; // Lógica de juego sin consola, se recrea al cambiar de partida.
+    private IBoardRenderer boardRenderer; // Renderizador aplicado a cada partida (null para el predeterminado).
+    private ICellStorageFactory storageFactory; // Almacenamiento de los tableros nuevos (null para Box[][]).
+    private BoardPool boardPool; // Tableros generados de antemano (null para generarlos al momento).
     private boolean gameOver;
 
     /**
@@ -41,6 +55,61 @@ public class GameController {
         this.gamePersistenceManager = gamePersistenceManager;
     }
 
+    /**
+     * Configura el renderizador que usarán las partidas creadas o cargadas por el controlador.
+     *
+     * @param boardRenderer Renderizador del tablero.
+     */
+    public void setBoardRenderer(IBoardRenderer boardRenderer) {
+        this.boardRenderer = boardRenderer;
+        if (game != null) {
+            game.setRenderer(boardRenderer);
+        }
+    }
+
+    /**
+     * Configura el almacenamiento de celdas de los tableros creados por el controlador.
+     *
+     * @param storageFactory Fábrica de almacenamiento, o null para el modo clásico.
+     */
+    public void setStorageFactory(ICellStorageFactory storageFactory) {
+        this.storageFactory = storageFactory;
+    }
+
+    /**
+     * Configura una reserva de tableros generados de antemano para las partidas nuevas. La
+     * reserva debe crear los tableros con {@link #createBoard}; no debe combinarse con un
+     * almacenamiento que comparta un único archivo entre tableros.
+     *
+     * @param boardPool Reserva de tableros, o null para generarlos al momento.
+     */
+    public void setBoardPool(BoardPool boardPool) {
+        this.boardPool = boardPool;
+    }
+
+    /**
+     * Crea y genera el tablero de una partida nueva con la configuración del controlador. Las
+     * minas y sus conteos se calculan aquí, así que en el primer clic solo se trasladan las
+     * minas de su zona protegida y un tablero de la reserva llega listo para jugar.
+     *
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param totalMines Número total de minas.
+     * @return Tablero generado.
+     */
+    public Board createBoard(int rows, int columns, int totalMines) {
+        Board board = Board.builder()
+            .rows(rows)
+            .columns(columns)
+            .totalMines(totalMines)
+            .storageFactory(storageFactory)
+            .seed(new SplittableRandom().nextLong()) // Permite guardar la semilla en lugar de las minas.
+            .firstClickRelocation(true) // Minas colocadas ya; el primer clic aparta las de su zona.
+            .build();
+        board.generateBoard();
+        return board;
+    }
+
     /**
      * Carga un juego guardado si existe.
      *
@@ -53,7 +122,7 @@ public class GameController {
 
         IGameLoadResult loadedGame = gamePersistenceManager.loadGameState();
         if (loadedGame != null) {
-            this.game = loadedGame.getGame();
+            setGame(loadedGame.getGame());
             view.showWelcomeMessage(game.getPlayer().getName());
             System.out.println("==== Juego anterior cargado. ====");
             return true;
@@ -101,7 +170,7 @@ public class GameController {
                     totalMines = view.promptForMines(playerName, rows, columns);
                     
                     // Validación para asegurarse que las minas no superen el total de celdas
-                    if (totalMines >= rows * columns) {
+                    if (totalMines >= (long) rows * columns) {
                         throw new BoardException("EL NÚMERO DE MINAS NO PUEDE SER MAYOR O IGUAL AL NÚMERO TOTAL DE CELDAS.");
                     }
                     
@@ -111,12 +180,9 @@ public class GameController {
                 }
             }
 
-            Board board = Board.builder()
-                .rows(rows)
-                .columns(columns)
-                .totalMines(totalMines)
-                .build();
-            board.generateBoard();
+            Board board = boardPool != null
+                ? boardPool.acquire(rows, columns, totalMines) // Sin espera si hay uno listo.
+                : createBoard(rows, columns, totalMines);
 
             setGame(Game.builder()
                 .board(board)
@@ -136,6 +202,19 @@ public class GameController {
         gamePersistenceManager.saveGameState(game);
     }
 
+    /**
+     * Guarda una jugada sobre una celda, permitiendo persistencia incremental.
+     *
+     * @param row Fila de la celda afectada.
+     * @param col Columna de la celda afectada.
+     */
+    private void saveMove(int row, int col) {
+        if (gamePersistenceManager == null) {
+            throw new IllegalStateException("GamePersistenceManager is not set");
+        }
+        gamePersistenceManager.saveMove(game, row, col);
+    }
+
     /**
      * Limpia el estado guardado del juego.
      */
@@ -144,6 +223,7 @@ public class GameController {
             throw new IllegalStateException("GamePersistenceManager is not set");
         }
         gamePersistenceManager.clearGameState();
+        gamePersistenceManager.flush(); // Al terminar la partida no deben quedar escrituras pendientes.
     }
 
     /**
@@ -165,6 +245,18 @@ public class GameController {
                     case "F":
                         handleFlagAction();
                         break;
+                    case "W":
+                    case "A":
+                    case "S":
+                    case "D":
+                        handlePanAction(action);
+                        break;
+                    case "I":
+                        handleJumpAction();
+                        break;
+                    case "R":
+                        handleRedrawAction();
+                        break;
                     default:
                         view.showInvalidActionMessage();
                         break;
@@ -174,6 +266,9 @@ public class GameController {
             }
         }
 
+        if (gamePersistenceManager != null) {
+            gamePersistenceManager.flush(); // Garantiza que el último guardado llegue a disco al salir.
+        }
         view.showEndGameMessage(playerName);
     }
 
@@ -191,32 +286,31 @@ public class GameController {
         int row = coords[0];
         int col = coords[1];
 
-        if (row < 0 || row >= game.getBoard().getRows() || col < 0 || col >= game.getBoard().getColumns()) {
-            throw new GameActionException("Movimiento inválido: coordenada fuera de rango.");
-        }
-
-        Box box = game.getBoard().getBoxes()[row][col];
-        if (box.isRevealed()) {
-            throw new GameActionException("La celda ya está revelada.");
-        } else if (box instanceof MinedBox) {
-            view.showGameOverMessage(game.getPlayer().getName());
-            game.revealAllBoxes();
-            game.printBoard();
-            gameOver = true;
-            clearGame();
-            throw new GameActionException("¡BOOM! Juego terminado.");
-        } else {
-            game.revealAdjacent(row, col);
-            game.printBoard();
-            saveGame();
-
-            if (isGameWon()) {
-                view.showVictoryMessage(game.getPlayer().getName());
+        followMove(row, col);
+        MoveResult result = engine().reveal(row, col);
+        switch (result.getOutcome()) {
+            case OUT_OF_RANGE:
+                throw new GameActionException("Movimiento inválido: coordenada fuera de rango.");
+            case ALREADY_REVEALED:
+                throw new GameActionException("La celda ya está revelada.");
+            case MINE_HIT:
+                view.showGameOverMessage(game.getPlayer().getName());
                 game.revealAllBoxes();
                 game.printBoard();
                 gameOver = true;
                 clearGame();
-            }
+                throw new GameActionException("¡BOOM! Juego terminado.");
+            default:
+                game.printChanges(result.getDelta());
+                saveMove(row, col);
+
+                if (result.getStatus() == Status.WON) {
+                    view.showVictoryMessage(game.getPlayer().getName());
+                    game.revealAllBoxes();
+                    game.printBoard();
+                    gameOver = true;
+                    clearGame();
+                }
         }
     }
 
@@ -235,35 +329,108 @@ public class GameController {
         int row = coords[0];
         int col = coords[1];
 
-        Box box = game.getBoard().getBoxes()[row][col];
-        if (box.isRevealed()) {
-            view.showCannotFlagRevealedMessage();
-        } else {
-            if (box.isFlagged()) {
-                box.setFlagged(false);
-                game.decreaseFlagCount();
+        followMove(row, col);
+        MoveResult result = engine().toggleFlag(row, col);
+        switch (result.getOutcome()) {
+            case OUT_OF_RANGE:
+                view.showInvalidPositionMessage();
+                return;
+            case CANNOT_FLAG_REVEALED:
+                view.showCannotFlagRevealedMessage();
+                return;
+            case UNFLAGGED:
                 view.showUnflaggedMessage(game.getPlayer().getName());
-            } else {
-                if (game.getFlagCount() < game.getBoard().getTotalMines()) {
-                    box.setFlagged(true);
-                    game.increaseFlagCount();
-                    view.showFlaggedMessage(game.getPlayer().getName());
-                } else {
-                    view.showNoFlagsLeftMessage();
-                }
-            }
-            game.printBoard();
-            saveGame();
+                break;
+            case FLAGGED:
+                view.showFlaggedMessage(game.getPlayer().getName());
+                break;
+            default:
+                view.showNoFlagsLeftMessage();
+                break;
+        }
+        game.printChanges(result.getDelta());
+        if (result.isChanged()) {
+            saveMove(row, col);
         }
     }
 
     /**
-     * Verifica si el jugador ha ganado el juego.
+     * Desplaza la vista del tablero media ventana en la dirección indicada.
      *
-     * @return Verdadero si todas las casillas no minadas han sido reveladas.
+     * @param action Tecla de desplazamiento (W, A, S o D).
      */
-    private boolean isGameWon() {
-        return game.getBoard().allNonMinedBoxesRevealed();
+    private void handlePanAction(String action) {
+        ViewportBoardRenderer viewport = viewport();
+        if (viewport == null) {
+            view.showInvalidActionMessage();
+            return;
+        }
+        int[] direction = GameView.parsePanDirection(action);
+        viewport.pan(direction[0] * Math.max(1, viewport.getViewRows() / 2),
+                direction[1] * Math.max(1, viewport.getViewColumns() / 2));
+        game.printBoard();
+    }
+
+    /**
+     * Centra la vista del tablero en una coordenada.
+     */
+    private void handleJumpAction() {
+        ViewportBoardRenderer viewport = viewport();
+        if (viewport == null) {
+            view.showInvalidActionMessage();
+            return;
+        }
+        int[] coords = GameView.parseCoordinates(view.promptPosition("ir a"));
+        if (coords == null || !game.getBoard().isValidPosition(coords[0], coords[1])) {
+            view.showInvalidPositionMessage();
+            return;
+        }
+        viewport.centerOn(coords[0], coords[1]);
+        game.printBoard();
+    }
+
+    /**
+     * Vuelve a dibujar el tablero completo, por ejemplo tras redimensionar la terminal.
+     */
+    private void handleRedrawAction() {
+        if (game.getRenderer() instanceof AnsiIncrementalBoardRenderer) {
+            ((AnsiIncrementalBoardRenderer) game.getRenderer()).reset(); // La pantalla ya no coincide con el último fotograma.
+        }
+        game.printBoard();
+    }
+
+    /**
+     * Mantiene visible la celda de la última jugada cuando se usa una vista parcial.
+     *
+     * @param row Fila de la jugada.
+     * @param col Columna de la jugada.
+     */
+    private void followMove(int row, int col) {
+        ViewportBoardRenderer viewport = viewport();
+        if (viewport != null && game.getBoard().isValidPosition(row, col)) {
+            viewport.ensureVisible(row, col);
+        }
+    }
+
+    /**
+     * Obtiene la vista parcial del tablero si la partida la usa.
+     *
+     * @return Renderizador con ventana, o null si se imprime el tablero completo.
+     */
+    private ViewportBoardRenderer viewport() {
+        return game.getRenderer() instanceof ViewportBoardRenderer ? (ViewportBoardRenderer) game.getRenderer() : null;
+    }
+
+    /**
+     * Obtiene el motor de juego asociado a la partida actual.
+     *
+     * @return Motor sin interfaz que aplica las jugadas.
+     */
+    private GameEngine engine() {
+        if (engine == null || engine.getGame() != game) {
+            engine = new GameEngine(game);
+        }
+        return engine;
     }
 
     /**
@@ -273,6 +440,9 @@ public class GameController {
      */
     public void setGame(Game game) {
         this.game = game;
+        if (boardRenderer != null) {
+            game.setRenderer(boardRenderer);
+        }
     }
 
     /**
@@ -282,7 +452,8 @@ public class GameController {
      * @param col Columna seleccionada.
      */
     public void processPlayerMove(int row, int col) {
-        Box box = game.getBoard().getBoxes()[row][col];
+        game.getBoard().commitDeferredMines(row, col);
+        Box box = game.getBoard().getBox(row, col);
         if (!box.isRevealed()) {
             box.reveal();
             if (box instanceof MinedBox) {
@@ -0,0 +1,219 @@
+package examen.models;
+
+import java.io.PrintStream;
+
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.GameInterfaces.IBoardRenderer;
+
+/**
+ * Renderizador incremental para terminales compatibles con secuencias ANSI.
+ *
+ * Conserva los símbolos del último fotograma y en los siguientes solo reescribe las celdas que
+ * cambiaron, situando el cursor con secuencias ANSI. El primer fotograma, un tablero distinto o
+ * un cambio de dimensiones provocan un redibujado completo. El tablero queda fijo en la parte
+ * superior de la pantalla y el resto de mensajes se desplaza en la región inferior.
+ *
+ * Java no recibe avisos de cambio de tamaño de la terminal, y tras uno la región de
+ * desplazamiento y los símbolos recordados dejan de corresponder con la pantalla. Quien use el
+ * renderizador debe llamar a {@link #reset()} en ese caso para que el siguiente fotograma sea
+ * completo (el controlador lo hace con la acción de redibujar).
+ */
+public class AnsiIncrementalBoardRenderer implements IBoardRenderer {
+    private static final String CSI = "\u001B["; // Introductor de secuencias de control.
+    private static final String SAVE_CURSOR = "\u001B7";
+    private static final String RESTORE_CURSOR = "\u001B8";
+    private static final int MERGE_GAP = 3; // Celdas sin cambios que se reescriben para ahorrar un salto de cursor.
+
+    private final StringBuilder frame = new StringBuilder(); // Búfer reutilizado entre fotogramas.
+    private Board lastBoard; // Tablero mostrado en pantalla.
+    private int lastRows = -1;
+    private int lastColumns = -1;
+    private int labelWidth = 1; // Ancho de las etiquetas de fila del tablero en pantalla.
+    private char[] shown; // Símbolos visibles en pantalla, fila por fila.
+
+    /**
+     * Imprime el tablero, reescribiendo solo las celdas que cambiaron desde el último fotograma.
+     *
+     * @param board Tablero a imprimir.
+     */
+    @Override
+    public void printBoard(Board board) {
+        ICellStorage cells = board.getCells();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        frame.setLength(0);
+        if (board != lastBoard || rows != lastRows || columns != lastColumns) {
+            appendFullFrame(cells, rows, columns);
+            lastBoard = board;
+            lastRows = rows;
+            lastColumns = columns;
+        } else {
+            appendChangedCells(cells, rows, columns);
+        }
+        if (frame.length() > 0) {
+            PrintStream out = System.out;
+            out.append(frame);
+            out.flush();
+        }
+    }
+
+    /**
+     * Reescribe solo las celdas indicadas por el delta, sin recorrer el resto del tablero. Si el
+     * tablero no es el que está en pantalla o el delta no conserva sus índices, compara el
+     * fotograma completo.
+     *
+     * @param board Tablero a imprimir.
+     * @param delta Celdas modificadas por la jugada.
+     */
+    @Override
+    public void printChanges(Board board, BoardDelta delta) {
+        if (board != lastBoard || board.getRows() != lastRows || board.getColumns() != lastColumns
+                || !delta.isRetained()) {
+            printBoard(board);
+            return;
+        }
+        ICellStorage cells = board.getCells();
+        frame.setLength(0);
+        frame.append(SAVE_CURSOR);
+        for (int i = 0; i < delta.getChangedCount(); i++) {
+            int index = delta.getIndex(i);
+            int row = delta.rowOf(index);
+            int col = delta.colOf(index);
+            char glyph = CellGlyphs.of(cells, row, col);
+            if (glyph != shown[index]) {
+                shown[index] = glyph;
+                appendRun(row, row * lastColumns, col, col);
+            }
+        }
+        if (frame.length() > SAVE_CURSOR.length()) {
+            frame.append(RESTORE_CURSOR);
+            PrintStream out = System.out;
+            out.append(frame);
+            out.flush();
+        }
+    }
+
+    /**
+     * La vista detallada usa los mismos símbolos que la vista normal.
+     *
+     * @param board Tablero a imprimir.
+     */
+    @Override
+    public void printDetailedBoard(Board board) {
+        printBoard(board);
+    }
+
+    /**
+     * Olvida el último fotograma, de modo que el siguiente se redibuja completo. Debe llamarse
+     * si la pantalla cambió por fuera del renderizador, por ejemplo al redimensionar la terminal.
+     */
+    public void reset() {
+        lastBoard = null;
+        shown = null;
+    }
+
+    /**
+     * Restablece la región de desplazamiento de la terminal y olvida el último fotograma.
+     */
+    public void close() {
+        System.out.print(CSI + "r" + CSI + "999;1H\n");
+        System.out.flush();
+        reset();
+    }
+
+    /**
+     * Compone un fotograma completo: limpia la pantalla, dibuja el tablero y reserva las líneas
+     * siguientes como región de desplazamiento para los mensajes.
+     *
+     * @param cells Almacenamiento de celdas.
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     */
+    private void appendFullFrame(ICellStorage cells, int rows, int columns) {
+        shown = new char[rows * columns];
+        labelWidth = RowLabels.width(rows);
+        frame.append(CSI).append('r').append(CSI).append('H').append(CSI).append("2J");
+        for (int i = 0; i < labelWidth; i++) {
+            frame.append(' ');
+        }
+        for (int col = 1; col <= columns; col++) {
+            frame.append(' ').append(col);
+        }
+        frame.append('\n');
+        for (int row = 0; row < rows; row++) {
+            int labelStart = frame.length();
+            RowLabels.append(frame, row); // Etiqueta las filas con letras.
+            for (int i = frame.length() - labelStart; i < labelWidth; i++) {
+                frame.append(' ');
+            }
+            int base = row * columns;
+            for (int col = 0; col < columns; col++) {
+                char glyph = CellGlyphs.of(cells, row, col);
+                shown[base + col] = glyph;
+                frame.append(' ').append(glyph);
+            }
+            frame.append('\n');
+        }
+        int firstTextLine = rows + 2;
+        frame.append(CSI).append(firstTextLine).append('r'); // Región de mensajes bajo el tablero.
+        frame.append(CSI).append(firstTextLine).append(";1H");
+    }
+
+    /**
+     * Compara el tablero con los símbolos en pantalla y añade una actualización por cada tramo
+     * de celdas modificadas. Los tramos separados por pocas celdas se unen en uno solo.
+     *
+     * @param cells Almacenamiento de celdas.
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     */
+    private void appendChangedCells(ICellStorage cells, int rows, int columns) {
+        frame.append(SAVE_CURSOR);
+        for (int row = 0; row < rows; row++) {
+            int base = row * columns;
+            int runStart = -1;
+            int runEnd = -1;
+            for (int col = 0; col < columns; col++) {
+                char glyph = CellGlyphs.of(cells, row, col);
+                if (glyph == shown[base + col]) {
+                    continue;
+                }
+                shown[base + col] = glyph;
+                if (runStart >= 0 && col - runEnd > MERGE_GAP) {
+                    appendRun(row, base, runStart, runEnd);
+                    runStart = -1;
+                }
+                if (runStart < 0) {
+                    runStart = col;
+                }
+                runEnd = col;
+            }
+            if (runStart >= 0) {
+                appendRun(row, base, runStart, runEnd);
+            }
+        }
+        if (frame.length() == SAVE_CURSOR.length()) {
+            frame.setLength(0); // Sin cambios no se emite nada.
+        } else {
+            frame.append(RESTORE_CURSOR); // El cursor vuelve a la zona de mensajes.
+        }
+    }
+
+    /**
+     * Sitúa el cursor al inicio de un tramo y escribe sus símbolos.
+     *
+     * @param row Fila del tramo.
+     * @param base Índice de la primera celda de la fila.
+     * @param from Primera columna del tramo.
+     * @param to Última columna del tramo.
+     */
+    private void appendRun(int row, int base, int from, int to) {
+        frame.append(CSI).append(row + 2).append(';').append(labelWidth + 2 + 2 * from).append('H');
+        for (int col = from; col <= to; col++) {
+            if (col > from) {
+                frame.append(' ');
+            }
+            frame.append(shown[base + col]);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package examen.models;
+
+import java.util.Arrays;
+
+import examen.models.BoardInterfaces.ICellStateListener;
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Almacenamiento compacto del tablero basado en planos de bits.
+ *
+ * Cada celda ocupa tres bits (mina, revelada, bandera) repartidos en arreglos
+ * {@code long[]} más un byte con el conteo de minas adyacentes, frente a un objeto
+ * {@link Box} completo por casilla en el modo clásico.
+ */
+public class BitBoardStorage implements ICellStorage {
+    private final int rows;
+    private final int columns;
+    private final long[] mines; // Plano de bits de minas.
+    private final long[] revealed; // Plano de bits de casillas reveladas.
+    private final long[] flagged; // Plano de bits de banderas.
+    private final byte[] adjacentMines; // Conteo de minas adyacentes por celda (-1 si aún no se calculó).
+    private boolean lazyAdjacency; // True si quedan conteos por calcular bajo demanda.
+    private ICellStateListener stateListener; // Observador de cambios (contadores del tablero).
+
+    /**
+     * Crea un almacenamiento vacío para las dimensiones dadas.
+     *
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     */
+    public BitBoardStorage(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive");
+        }
+        long cells = (long) rows * columns;
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large for bitboard storage: " + cells + " cells");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        int words = (int) ((cells + 63) >>> 6);
+        this.mines = new long[words];
+        this.revealed = new long[words];
+        this.flagged = new long[words];
+        this.adjacentMines = new byte[(int) cells];
+    }
+
+    /**
+     * Crea una copia independiente del estado de otras celdas. Si el origen también es
+     * un {@code BitBoardStorage}, los planos se copian en bloque.
+     *
+     * @param source Celdas de origen.
+     * @return Copia sin observador registrado.
+     */
+    public static BitBoardStorage copyOf(ICellStorage source) {
+        BitBoardStorage copy = new BitBoardStorage(source.getRows(), source.getColumns());
+        if (source instanceof BitBoardStorage) {
+            BitBoardStorage bits = (BitBoardStorage) source;
+            System.arraycopy(bits.mines, 0, copy.mines, 0, bits.mines.length);
+            System.arraycopy(bits.revealed, 0, copy.revealed, 0, bits.revealed.length);
+            System.arraycopy(bits.flagged, 0, copy.flagged, 0, bits.flagged.length);
+            System.arraycopy(bits.adjacentMines, 0, copy.adjacentMines, 0, bits.adjacentMines.length);
+            copy.lazyAdjacency = bits.lazyAdjacency;
+            return copy;
+        }
+        for (int row = 0; row < copy.rows; row++) {
+            for (int col = 0; col < copy.columns; col++) {
+                copy.setMine(row, col, source.isMine(row, col));
+                copy.setRevealed(row, col, source.isRevealed(row, col));
+                copy.setFlagged(row, col, source.isFlagged(row, col));
+                copy.setAdjacentMines(row, col, source.getAdjacentMines(row, col));
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Convierte una posición en su índice lineal.
+     *
+     * @param row Fila.
+     * @param col Columna.
+     * @return Índice lineal de la celda.
+     */
+    public int indexOf(int row, int col) {
+        return row * columns + col;
+    }
+
+    @Override
+    public boolean isMine(int row, int col) {
+        return get(mines, indexOf(row, col));
+    }
+
+    @Override
+    public void setMine(int row, int col, boolean mine) {
+        set(mines, indexOf(row, col), mine);
+    }
+
+    @Override
+    public boolean isRevealed(int row, int col) {
+        return get(revealed, indexOf(row, col));
+    }
+
+    @Override
+    public void setRevealed(int row, int col, boolean value) {
+        int index = indexOf(row, col);
+        if (get(revealed, index) == value) {
+            return;
+        }
+        set(revealed, index, value);
+        if (stateListener != null) {
+            stateListener.onRevealChanged(!get(mines, index), value);
+        }
+    }
+
+    @Override
+    public boolean isFlagged(int row, int col) {
+        return get(flagged, indexOf(row, col));
+    }
+
+    @Override
+    public void setFlagged(int row, int col, boolean value) {
+        int index = indexOf(row, col);
+        if (get(flagged, index) == value) {
+            return;
+        }
+        set(flagged, index, value);
+        if (stateListener != null) {
+            stateListener.onFlagChanged(value);
+        }
+    }
+
+    @Override
+    public int getAdjacentMines(int row, int col) {
+        int index = indexOf(row, col);
+        int count = adjacentMines[index];
+        if (count < 0) {
+            count = get(mines, index) ? 0 : countAdjacentMines(row, col); // Como el cálculo completo, las minas quedan en 0.
+            adjacentMines[index] = (byte) count;
+        }
+        return count;
+    }
+
+    /**
+     * Descarta los conteos de minas adyacentes para que se calculen la primera vez que se
+     * consulta cada celda. Debe invocarse después de colocar las minas.
+     */
+    public void invalidateAdjacency() {
+        Arrays.fill(adjacentMines, (byte) -1);
+        lazyAdjacency = true;
+    }
+
+    @Override
+    public void setAdjacentMines(int row, int col, int count) {
+        adjacentMines[indexOf(row, col)] = (byte) count;
+    }
+
+    @Override
+    public void setStateListener(ICellStateListener listener) {
+        this.stateListener = listener;
+    }
+
+    /**
+     * Obtiene el plano de bits de minas (uso interno de estrategias y persistencia).
+     *
+     * @return Arreglo de palabras de 64 bits.
+     */
+    public long[] getMinePlane() {
+        return mines;
+    }
+
+    /**
+     * Obtiene el plano de bits de casillas reveladas.
+     *
+     * @return Arreglo de palabras de 64 bits.
+     */
+    public long[] getRevealedPlane() {
+        return revealed;
+    }
+
+    /**
+     * Obtiene el plano de bits de banderas.
+     *
+     * @return Arreglo de palabras de 64 bits.
+     */
+    public long[] getFlagPlane() {
+        return flagged;
+    }
+
+    /**
+     * Obtiene los conteos de minas adyacentes en orden fila por fila.
+     *
+     * @return Arreglo de conteos.
+     */
+    public byte[] getAdjacencyPlane() {
+        if (lazyAdjacency) {
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < columns; col++) {
+                    getAdjacentMines(row, col); // Completa los conteos pendientes.
+                }
+            }
+            lazyAdjacency = false;
+        }
+        return adjacentMines;
+    }
+
+    private int countAdjacentMines(int row, int col) {
+        int count = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                if ((r != row || c != col) && get(mines, indexOf(r, c))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean get(long[] plane, int index) {
+        return (plane[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] plane, int index, boolean value) {
+        if (value) {
+            plane[index >>> 6] |= 1L << index;
+        } else {
+            plane[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
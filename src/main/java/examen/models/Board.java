@@ -1,15 +1,23 @@
 package examen.models;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Setter;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.stream.IntStream;
 
 import examen.models.BoardInterfaces.IAdjacentMineCalculator;
 import examen.models.BoardInterfaces.IBoardGenerator;
 import examen.models.BoardInterfaces.IBoardValidator;
+import examen.models.BoardInterfaces.ICellStateListener;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.BoardInterfaces.ICellStorageFactory;
 import examen.models.BoardInterfaces.IMineStrategy;
+import examen.models.BoardInterfaces.IRandomSource;
 
 /**
  * Representa un tablero para el juego Buscaminas.
@@ -17,30 +25,66 @@ import examen.models.BoardInterfaces.IMineStrategy;
 @Builder
 @Data
 @AllArgsConstructor
-public class Board implements IBoardGenerator {
+public class Board implements IBoardGenerator, ICellStateListener {
     private int rows; // Número de filas del tablero.
     private int columns; // Número de columnas del tablero.
     private int totalMines; // Número total de minas en el tablero.
     private Box[][] boxes; // Matriz que contiene las casillas del tablero.
+    private ICellStorage storage; // Almacenamiento compacto de celdas (null en modo clásico).
+    private ICellStorageFactory storageFactory; // Fábrica de almacenamiento compacto (null para usar Box[][]).
+    private ZeroRegionIndex zeroRegions; // Regiones en cero precalculadas (null si no se calcularon).
+    private BoardMetrics metrics; // Métricas de dificultad (null hasta medirlas).
+    private ParallelBoardGenerator parallelGenerator; // Generación por franjas en paralelo (null para secuencial).
+    private Long seed; // Semilla que reproduce las minas (null si el tablero no es reproducible).
 
     @Builder.Default
     private final Random random = new Random(); // Generador de números aleatorios.
 
     @Builder.Default
+    @Setter(AccessLevel.NONE)
     private int flagCount = 0; // Contador de banderas colocadas en el tablero.
 
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    private int hiddenSafeCount = 0; // Contador de casillas sin mina que siguen ocultas.
+
+    @Builder.Default
+    private boolean deferredGeneration = false; // Coloca las minas en el primer revelado, lejos de la casilla elegida.
+
+    private boolean minesPending; // True mientras las minas del modo diferido no se han colocado.
+
+    @Builder.Default
+    private boolean firstClickRelocation = false; // Coloca las minas al generar y aparta las del primer clic.
+
+    private boolean relocationPending; // True mientras no se haya protegido el primer clic por traslado.
+
+    @Builder.Default
+    private int safeCell = -1; // Casilla protegida al colocar las minas diferidas (fila * columnas + columna), -1 si no hay.
+
+    @Builder.Default
+    private boolean precomputeZeroRegions = false; // Etiqueta las regiones en cero al generar (4 bytes por casilla).
+
     @Builder.Default
     private IBoardValidator boardValidator = new StandardBoardValidator(); // Validador del tablero.
 
     @Builder.Default
-    private IMineStrategy mineStrategy = new RandomMinePlacer(); // Estrategia para colocar minas.
+    private IMineStrategy mineStrategy = new SampledMinePlacer(); // Estrategia para colocar minas.
 
     @Builder.Default
-    private IAdjacentMineCalculator adjacentMineCalculator = new AdjacentMineCalculator(); // Calculador de minas adyacentes.
+    private IAdjacentMineCalculator adjacentMineCalculator = new SlidingWindowAdjacentMineCalculator(); // Calculador de minas adyacentes.
 
     /**
      * Genera un tablero con minas y valores iniciales.
      *
+     * Con una semilla, las minas se colocan siempre con {@link ParallelBoardGenerator} (o con
+     * {@link SampledMinePlacer} en el modo diferido), sin importar la estrategia configurada,
+     * de modo que {@code (filas, columnas, minas, semilla)} y, en el modo diferido, la primera
+     * casilla revelada determinan el tablero. Con {@code firstClickRelocation} las minas se
+     * colocan aquí y el primer revelado solo traslada las que caen en su zona protegida, de
+     * modo que el tablero puede generarse de antemano. Sin un generador configurado las franjas se
+     * recorren en el hilo actual; el pool de hilos solo se usa si se pide con
+     * {@code parallelGenerator}.
+     *
      * @param boxes Matriz de casillas del tablero.
      * @param totalMines Número total de minas.
      */
@@ -48,8 +92,31 @@ public class Board implements IBoardGenerator {
     public void generate(Box[][] boxes, int totalMines) {
         boardValidator.validate(rows, columns, totalMines); // Validación del tablero.
         initializeEmptyBoard(); // Inicialización del tablero vacío.
-        mineStrategy.placeMines(this.boxes, totalMines, random); // Coloca las minas.
-        adjacentMineCalculator.calculateAdjacentMines(this.boxes); // Calcula las minas adyacentes.
+        if (deferredGeneration) {
+            minesPending = totalMines > 0; // Las minas se colocan en el primer revelado.
+            return;
+        }
+        ParallelBoardGenerator generator = parallelGenerator;
+        if (generator == null && seed != null) {
+            // Algoritmo fijo para que la semilla sea reproducible, en el hilo actual.
+            generator = new ParallelBoardGenerator(seed, null, ParallelBoardGenerator.DEFAULT_BAND_CELLS);
+        }
+        if (generator != null) {
+            seed = generator.getSeed();
+            metrics = generator.generate(getCells(), totalMines); // Minas, conteos y métricas por franjas de filas.
+        } else {
+            if (storage != null) {
+                mineStrategy.placeMinesInStorage(storage, totalMines, random); // Coloca las minas en el almacenamiento compacto.
+            } else {
+                mineStrategy.placeMines(this.boxes, totalMines, random); // Coloca las minas.
+            }
+            metrics = calculateAdjacentMines(); // Calcula las minas adyacentes.
+        }
+        if (precomputeZeroRegions) {
+            zeroRegions = ZeroRegionIndex.build(getCells()); // Las cascadas pasan a ser recorridos de listas.
+        }
+        rebuildCounters(); // Las minas reemplazan casillas, se vuelven a vincular.
+        relocationPending = firstClickRelocation && totalMines > 0;
     }
 
     /**
@@ -61,8 +128,20 @@ public class Board implements IBoardGenerator {
 
     /**
      * Inicializa un tablero vacío con casillas sin minas.
+     * Si hay una fábrica de almacenamiento configurada, no se crean objetos por casilla.
      */
     public void initializeEmptyBoard() {
+        zeroRegions = null; // Las regiones dependen de las minas anteriores.
+        metrics = null;
+        minesPending = false;
+        relocationPending = false;
+        safeCell = -1;
+        if (storageFactory != null) {
+            storage = storageFactory.create(rows, columns);
+            boxes = null;
+            rebuildCounters();
+            return;
+        }
         boxes = IntStream.range(0, rows)
                 .mapToObj(i -> IntStream.range(0, columns)
                         .mapToObj(j -> {
@@ -73,6 +152,88 @@ public class Board implements IBoardGenerator {
                         })
                         .toArray(Box[]::new))
                 .toArray(Box[][]::new);
+        rebuildCounters();
+    }
+
+    /**
+     * Vincula las celdas actuales al tablero y recalcula los contadores de banderas y de
+     * casillas seguras ocultas con un único recorrido. Debe invocarse cuando las casillas
+     * se reemplazan desde fuera, por ejemplo al cargar una partida guardada.
+     */
+    public void rebuildCounters() {
+        ICellStorage cells = getCells();
+        int flags = 0;
+        int hiddenSafe = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (cells.isFlagged(row, col)) {
+                    flags++;
+                }
+                if (!cells.isRevealed(row, col) && !cells.isMine(row, col)) {
+                    hiddenSafe++;
+                }
+            }
+        }
+        flagCount = flags;
+        hiddenSafeCount = hiddenSafe;
+        cells.setStateListener(this);
+    }
+
+    /**
+     * Actualiza el contador de banderas cuando una celda cambia de estado.
+     *
+     * @param flagged Nuevo estado de la bandera.
+     */
+    @Override
+    public void onFlagChanged(boolean flagged) {
+        flagCount += flagged ? 1 : -1;
+    }
+
+    /**
+     * Actualiza el contador de casillas seguras ocultas cuando una celda cambia de estado.
+     *
+     * @param safe True si la celda no contiene mina.
+     * @param revealed Nuevo estado de revelado.
+     */
+    @Override
+    public void onRevealChanged(boolean safe, boolean revealed) {
+        if (safe) {
+            hiddenSafeCount += revealed ? -1 : 1;
+        }
+    }
+
+    /**
+     * Obtiene la casilla en una posición. En modo compacto se crea una vista
+     * bajo demanda que lee y escribe directamente en el almacenamiento.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Casilla en la posición indicada.
+     */
+    public Box getBox(int row, int col) {
+        if (storage == null) {
+            return boxes[row][col];
+        }
+        return storage.isMine(row, col)
+                ? new MinedBoxView(storage, row, col)
+                : new EmptyBoxView(storage, row, col);
+    }
+
+    /**
+     * Obtiene la matriz de casillas. En modo compacto se materializa una matriz de vistas,
+     * por lo que para accesos puntuales debe preferirse {@link #getBox(int, int)}.
+     *
+     * @return Matriz de casillas del tablero.
+     */
+    public Box[][] getBoxes() {
+        if (storage == null) {
+            return boxes;
+        }
+        return IntStream.range(0, rows)
+                .mapToObj(row -> IntStream.range(0, columns)
+                        .mapToObj(col -> getBox(row, col))
+                        .toArray(Box[]::new))
+                .toArray(Box[][]::new);
     }
 
     /**
@@ -87,17 +248,33 @@ public class Board implements IBoardGenerator {
     }
 
     /**
-     * Revela las casillas adyacentes de manera recursiva.
+     * Revela una casilla y, si no tiene minas adyacentes, la región conectada de casillas en cero
+     * junto con su borde numerado. El recorrido es iterativo (ver {@link ScanlineFloodFill}) o,
+     * si se precalcularon las regiones, un recorrido de la lista de la región ({@link ZeroRegionIndex}).
      *
      * @param row Fila de inicio.
      * @param col Columna de inicio.
      * @return Número de banderas removidas durante la revelación.
      */
     public int revealAdjacent(int row, int col) {
+        return revealAdjacent(row, col, null);
+    }
+
+    /**
+     * Revela una casilla y su cascada registrando cada celda modificada en un delta.
+     *
+     * @param row Fila de inicio.
+     * @param col Columna de inicio.
+     * @param delta Registro de cambios, o null para no registrar.
+     * @return Número de banderas removidas durante la revelación.
+     */
+    public int revealAdjacent(int row, int col, BoardDelta delta) {
         if (!isValidPosition(row, col))
             return 0;
 
-        Box box = boxes[row][col];
+        commitDeferredMines(row, col);
+
+        Box box = getBox(row, col);
 
         if (box.isRevealed())
             return 0;
@@ -109,42 +286,307 @@ public class Board implements IBoardGenerator {
         }
 
         box.reveal(); // Revela la casilla actual.
+        if (delta != null) {
+            delta.recordReveal(row, col, flagsRemoved > 0);
+        }
 
-        if (box instanceof EmptyBox && ((EmptyBox) box).getAdjacentMinesCount() > 0) {
+        if (!(box instanceof EmptyBox) || ((EmptyBox) box).getAdjacentMinesCount() > 0) {
             return flagsRemoved;
         }
 
-        // Direcciones para explorar las casillas adyacentes.
-        int[][] directions = {
-                { -1, -1 }, { -1, 0 }, { -1, 1 },
-                { 0, -1 }, { 0, 1 },
-                { 1, -1 }, { 1, 0 }, { 1, 1 }
-        };
+        if (zeroRegions != null) {
+            return flagsRemoved + zeroRegions.reveal(getCells(), zeroRegions.regionOf(row, col), delta);
+        }
+        return flagsRemoved + new ScanlineFloodFill().fill(getCells(), row, col, delta);
+    }
+
+    /**
+     * Vuelve a diferir la colocación de minas si el tablero no tiene minas colocadas ni casillas
+     * reveladas, como ocurre con una partida guardada antes del primer clic en modo diferido.
+     * Con {@code firstClickRelocation} y las minas ya colocadas, vuelve a proteger el primer
+     * clic si ninguna casilla está revelada. Debe invocarse después de {@link #rebuildCounters()}.
+     */
+    public void restoreDeferredGeneration() {
+        long cellCount = (long) rows * columns;
+        minesPending = totalMines > 0 && hiddenSafeCount == cellCount;
+        relocationPending = firstClickRelocation && totalMines > 0 && hiddenSafeCount == cellCount - totalMines;
+    }
 
-        for (int[] direction : directions) {
-            int newRow = row + direction[0];
-            int newCol = col + direction[1];
-            flagsRemoved += revealAdjacent(newRow, newCol);
+    /**
+     * Coloca las minas pendientes del modo diferido, o traslada las de la zona protegida con
+     * {@code firstClickRelocation}, protegiendo una casilla sin revelarla. No hace nada después
+     * del primer revelado. Permite reproducir el tablero a partir de su semilla y de
+     * {@link #getSafeCell()}.
+     *
+     * @param row Fila de la casilla protegida.
+     * @param col Columna de la casilla protegida.
+     */
+    public void commitDeferredMines(int row, int col) {
+        if (minesPending) {
+            placeDeferredMines(row, col);
+        } else if (relocationPending) {
+            relocateMines(row, col);
         }
+    }
 
-        return flagsRemoved;
+    /**
+     * Traslada las minas de la zona protegida del primer clic a casillas libres fuera de ella
+     * elegidas al azar, y ajusta solo los conteos de las vecinas afectadas. Mover cada mina a
+     * una casilla libre uniforme deja las minas uniformes entre las casillas fuera de la zona,
+     * como en el modo diferido. Con semilla, el flujo se deriva de la semilla y de
+     * {@link #getSafeCell()}, que siguen determinando el tablero.
+     *
+     * @param row Fila de la primera casilla revelada.
+     * @param col Columna de la primera casilla revelada.
+     */
+    private void relocateMines(int row, int col) {
+        relocationPending = false;
+        safeCell = row * columns + col;
+        ICellStorage cells = getCells();
+        int[] zone = safeZone(row, col);
+        int cellCount = rows * columns;
+        IRandomSource source = seed != null
+                ? new SplittableRandom(seed ^ (safeCell + 1) * 0x9E3779B97F4A7C15L)::nextInt
+                : random::nextInt;
+        boolean moved = false;
+        for (int cell : zone) {
+            if (!cells.isMine(cell / columns, cell % columns)) {
+                continue;
+            }
+            int target;
+            do {
+                target = source.nextInt(cellCount); // Hay hueco: la zona deja sitio a todas las minas.
+            } while (cells.isMine(target / columns, target % columns) || Arrays.binarySearch(zone, target) >= 0);
+            moveMine(cells, cell, target);
+            moved = true;
+        }
+        if (moved) {
+            metrics = null; // Se vuelven a medir en la siguiente consulta.
+            if (precomputeZeroRegions) {
+                zeroRegions = ZeroRegionIndex.build(cells);
+            }
+        }
+    }
+
+    /**
+     * Mueve una mina entre dos casillas actualizando los conteos de sus vecinas.
+     */
+    private void moveMine(ICellStorage cells, int from, int to) {
+        int fromRow = from / columns;
+        int fromCol = from % columns;
+        int toRow = to / columns;
+        int toCol = to % columns;
+        cells.setMine(fromRow, fromCol, false);
+        cells.setMine(toRow, toCol, true);
+        if (boxes != null) {
+            boxes[fromRow][fromCol].setStateListener(this); // Las casillas reemplazadas se vuelven a vincular.
+            boxes[toRow][toCol].setStateListener(this);
+        }
+        adjustNeighbours(cells, fromRow, fromCol, -1);
+        adjustNeighbours(cells, toRow, toCol, 1);
+        int count = 0;
+        for (int r = Math.max(0, fromRow - 1); r <= Math.min(rows - 1, fromRow + 1); r++) {
+            for (int c = Math.max(0, fromCol - 1); c <= Math.min(columns - 1, fromCol + 1); c++) {
+                count += cells.isMine(r, c) ? 1 : 0;
+            }
+        }
+        cells.setAdjacentMines(fromRow, fromCol, count);
+        cells.setAdjacentMines(toRow, toCol, 0); // Como el cálculo completo, las minas quedan en 0.
+    }
+
+    private void adjustNeighbours(ICellStorage cells, int row, int col, int delta) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                if ((r != row || c != col) && !cells.isMine(r, c)) {
+                    cells.setAdjacentMines(r, c, cells.getAdjacentMines(r, c) + delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * Coloca las minas del modo diferido evitando la casilla elegida y, si hay espacio, sus
+     * vecinas. En almacenamiento compacto los conteos de minas adyacentes se calculan bajo
+     * demanda; en el modo clásico se calculan completos.
+     *
+     * @param row Fila de la primera casilla revelada.
+     * @param col Columna de la primera casilla revelada.
+     */
+    private void placeDeferredMines(int row, int col) {
+        minesPending = false;
+        safeCell = row * columns + col;
+        ICellStorage cells = getCells();
+        int[] excluded = safeZone(row, col);
+        IMineStrategy strategy = seed != null ? new SampledMinePlacer(new SplittableRandom(seed)::nextInt) : mineStrategy;
+        strategy.placeMinesInStorage(new ExcludingCellStorage(cells, excluded), totalMines, random);
+        if (storage instanceof BitBoardStorage && !precomputeZeroRegions) {
+            // Cada conteo se calcula al consultarse; las métricas, en la primera consulta.
+            ((BitBoardStorage) storage).invalidateAdjacency();
+        } else {
+            metrics = calculateAdjacentMines();
+        }
+        if (precomputeZeroRegions) {
+            zeroRegions = ZeroRegionIndex.build(cells);
+        }
+        rebuildCounters(); // Las minas reemplazan casillas en el modo clásico.
+    }
+
+    /**
+     * Calcula las minas adyacentes con el calculador configurado y mide las métricas. Con
+     * {@link SlidingWindowAdjacentMineCalculator} ambas cosas se hacen en la misma pasada; con
+     * otro calculador las métricas requieren una pasada más.
+     *
+     * @return Métricas del tablero.
+     */
+    private BoardMetrics calculateAdjacentMines() {
+        if (adjacentMineCalculator.getClass() == SlidingWindowAdjacentMineCalculator.class) {
+            return ((SlidingWindowAdjacentMineCalculator) adjacentMineCalculator)
+                    .calculateAdjacentMinesAndMeasure(getCells());
+        }
+        if (storage != null) {
+            adjacentMineCalculator.calculateAdjacentMinesInStorage(storage);
+        } else {
+            adjacentMineCalculator.calculateAdjacentMines(boxes);
+        }
+        return BoardMetrics.measure(getCells());
     }
 
     /**
-     * Obtiene el número actual de banderas en el tablero.
+     * Calcula la zona protegida del primer clic en orden ascendente de índice: la casilla y sus
+     * vecinas si caben todas las minas fuera de ella, solo la casilla si no, o ninguna si el
+     * tablero está lleno de minas.
+     */
+    private int[] safeZone(int row, int col) {
+        long cellCount = (long) rows * columns;
+        int fromRow = Math.max(0, row - 1);
+        int toRow = Math.min(rows - 1, row + 1);
+        int fromCol = Math.max(0, col - 1);
+        int toCol = Math.min(columns - 1, col + 1);
+        int neighbourhood = (toRow - fromRow + 1) * (toCol - fromCol + 1);
+        if (totalMines <= cellCount - neighbourhood) {
+            int[] zone = new int[neighbourhood];
+            int i = 0;
+            for (int r = fromRow; r <= toRow; r++) {
+                for (int c = fromCol; c <= toCol; c++) {
+                    zone[i++] = r * columns + c;
+                }
+            }
+            return zone;
+        }
+        return totalMines < cellCount ? new int[] { row * columns + col } : new int[0];
+    }
+
+    /**
+     * Coloca o retira una bandera registrando el cambio en un delta.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @param flagged Nuevo estado de la bandera.
+     * @param delta Registro de cambios, o null para no registrar.
+     * @return True si el estado de la casilla cambió.
+     */
+    public boolean setFlagged(int row, int col, boolean flagged, BoardDelta delta) {
+        Box box = getBox(row, col);
+        if (box.isFlagged() == flagged) {
+            return false;
+        }
+        box.setFlagged(flagged);
+        if (delta != null) {
+            delta.recordFlag(row, col, flagged);
+        }
+        return true;
+    }
+
+    /**
+     * Crea una copia inmutable en la práctica del estado actual, respaldada por
+     * {@link BitBoardStorage}, para entregarla a procesos en segundo plano.
+     *
+     * @return Nuevo tablero con el mismo estado de celdas y contadores.
+     */
+    public Board snapshot() {
+        Board copy = Board.builder()
+                .rows(rows)
+                .columns(columns)
+                .totalMines(totalMines)
+                .storage(BitBoardStorage.copyOf(getCells()))
+                .storageFactory(BitBoardStorage::new)
+                .zeroRegions(zeroRegions)
+                .minesPending(minesPending)
+                .firstClickRelocation(firstClickRelocation)
+                .relocationPending(relocationPending)
+                .seed(seed)
+                .safeCell(safeCell)
+                .deferredGeneration(deferredGeneration)
+                .build();
+        copy.rebuildCounters();
+        return copy;
+    }
+
+    /**
+     * Obtiene las métricas de dificultad (3BV, aperturas, números aislados e islas). Se miden al
+     * generar el tablero, junto con los conteos; si los conteos se calculan bajo demanda o el
+     * primer clic trasladó minas, en la primera consulta.
+     *
+     * @return Métricas del tablero, o null mientras no haya minas colocadas.
+     */
+    public BoardMetrics getMetrics() {
+        if (metrics == null && !minesPending && (storage != null || boxes != null)) {
+            metrics = BoardMetrics.measure(getCells());
+        }
+        return metrics;
+    }
+
+    /**
+     * Obtiene el acceso a las celdas independiente del modo de almacenamiento.
+     *
+     * @return Almacenamiento compacto o un adaptador sobre la matriz de casillas.
+     */
+    public ICellStorage getCells() {
+        return storage != null ? storage : new BoxGridStorage(boxes);
+    }
+
+    /**
+     * Obtiene el número actual de banderas en el tablero. El valor se mantiene de forma
+     * incremental, por lo que la consulta es O(1).
      *
      * @return Número de banderas colocadas.
      */
     public int getFlagCount() {
-        return (int) IntStream.range(0, rows)
-                .flatMap(row -> IntStream.range(0, columns)
-                        .filter(col -> boxes[row][col].isFlagged()))
-                .count();
+        return flagCount;
+    }
+
+    /**
+     * Fija el contador de banderas.
+     *
+     * @param flagCount Nuevo valor del contador.
+     * @deprecated El contador lo mantienen los cambios de las celdas ({@link #onFlagChanged(boolean)});
+     *             fijarlo a mano lo desincroniza hasta el siguiente {@link #rebuildCounters()}.
+     */
+    @Deprecated
+    public void setFlagCount(int flagCount) {
+        this.flagCount = flagCount;
+    }
+
+    /**
+     * Fija el contador de casillas seguras ocultas.
+     *
+     * @param hiddenSafeCount Nuevo valor del contador.
+     * @deprecated El contador lo mantienen los cambios de las celdas
+     *             ({@link #onRevealChanged(boolean, boolean)}); fijarlo a mano lo desincroniza
+     *             hasta el siguiente {@link #rebuildCounters()}.
+     */
+    @Deprecated
+    public void setHiddenSafeCount(int hiddenSafeCount) {
+        this.hiddenSafeCount = hiddenSafeCount;
     }
 
     /**
      * Incrementa el contador de banderas si no se excede el total de minas.
+     *
+     * @deprecated Colocar la bandera en la celda ya incrementa el contador; llamarlo además la
+     *             cuenta dos veces.
      */
+    @Deprecated
     public void increaseFlagCount() {
         if (flagCount < totalMines) {
             flagCount++;
@@ -155,7 +597,11 @@ public class Board implements IBoardGenerator {
 
     /**
      * Decrementa el contador de banderas si es mayor a cero.
+     *
+     * @deprecated Retirar la bandera de la celda ya decrementa el contador; llamarlo además lo
+     *             descuenta dos veces.
      */
+    @Deprecated
     public void decreaseFlagCount() {
         if (flagCount > 0) {
             flagCount--;
@@ -165,14 +611,11 @@ public class Board implements IBoardGenerator {
     }
 
     /**
-     * Verifica si todas las casillas no minadas han sido reveladas.
+     * Verifica si todas las casillas no minadas han sido reveladas, en O(1).
      *
      * @return True si todas las casillas no minadas están reveladas, de lo contrario, false.
      */
     public boolean allNonMinedBoxesRevealed() {
-        return IntStream.range(0, rows)
-                .flatMap(i -> IntStream.range(0, columns)
-                        .filter(j -> !boxes[i][j].isMine() && !boxes[i][j].isRevealed()))
-                .count() == 0;
+        return hiddenSafeCount == 0;
     }
 }
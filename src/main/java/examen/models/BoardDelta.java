@@ -0,0 +1,164 @@
+package examen.models;
+
+import java.util.Arrays;
+
+import examen.models.BoardInterfaces.IDeltaChunkConsumer;
+import lombok.Getter;
+
+/**
+ * Cambios producidos por una jugada: índices de las celdas modificadas
+ * ({@code fila * columnas + columna}) y contadores.
+ *
+ * Sin consumidor, el delta conserva todos los índices en un arreglo de enteros que crece según
+ * sea necesario. Con consumidor, los índices se entregan en bloques de tamaño fijo mientras se
+ * produce la jugada, de modo que la memoria usada no depende del tamaño de la cascada.
+ */
+public class BoardDelta {
+    public static final int DEFAULT_CHUNK_SIZE = 4096; // Índices por bloque al transmitir.
+
+    @Getter
+    private final int columns; // Columnas del tablero, para decodificar los índices.
+    private final IDeltaChunkConsumer consumer; // Destino de los bloques (null para conservarlos).
+    private int[] indices; // Índices pendientes o conservados.
+    private int size; // Índices válidos en el búfer.
+
+    @Getter
+    private int changedCount; // Celdas modificadas en total.
+    @Getter
+    private int revealedCount; // Celdas reveladas.
+    @Getter
+    private int flagsRemoved; // Banderas retiradas.
+    @Getter
+    private int flagsPlaced; // Banderas colocadas.
+
+    /**
+     * Crea un delta que conserva todos los índices.
+     *
+     * @param columns Columnas del tablero.
+     */
+    public BoardDelta(int columns) {
+        this(columns, 16, null);
+    }
+
+    /**
+     * Crea un delta que entrega los índices por bloques.
+     *
+     * @param columns Columnas del tablero.
+     * @param chunkSize Tamaño de cada bloque.
+     * @param consumer Destino de los bloques, o null para conservar todos los índices.
+     */
+    public BoardDelta(int columns, int chunkSize, IDeltaChunkConsumer consumer) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo.");
+        }
+        this.columns = columns;
+        this.consumer = consumer;
+        this.indices = new int[chunkSize];
+    }
+
+    /**
+     * Registra una celda revelada.
+     *
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     * @param unflagged True si se le retiró una bandera al revelarla.
+     */
+    void recordReveal(int row, int col, boolean unflagged) {
+        revealedCount++;
+        if (unflagged) {
+            flagsRemoved++;
+        }
+        add(row, col);
+    }
+
+    /**
+     * Registra un cambio de bandera.
+     *
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     * @param flagged Nuevo estado de la bandera.
+     */
+    void recordFlag(int row, int col, boolean flagged) {
+        if (flagged) {
+            flagsPlaced++;
+        } else {
+            flagsRemoved++;
+        }
+        add(row, col);
+    }
+
+    /**
+     * Entrega al consumidor los índices pendientes. Se invoca al terminar la jugada.
+     */
+    public void flush() {
+        if (consumer != null && size > 0) {
+            consumer.accept(indices, size);
+            size = 0;
+        }
+    }
+
+    /**
+     * @return True si el delta conserva todos los índices (no se transmite por bloques).
+     */
+    public boolean isRetained() {
+        return consumer == null;
+    }
+
+    /**
+     * Obtiene un índice conservado.
+     *
+     * @param i Posición del índice, entre 0 y {@link #getChangedCount()} - 1.
+     * @return Índice de la celda.
+     */
+    public int getIndex(int i) {
+        requireRetained();
+        return indices[i];
+    }
+
+    /**
+     * @return Copia de los índices conservados.
+     */
+    public int[] toArray() {
+        requireRetained();
+        return Arrays.copyOf(indices, size);
+    }
+
+    /**
+     * Obtiene la fila de un índice.
+     *
+     * @param index Índice de la celda.
+     * @return Fila de la celda.
+     */
+    public int rowOf(int index) {
+        return index / columns;
+    }
+
+    /**
+     * Obtiene la columna de un índice.
+     *
+     * @param index Índice de la celda.
+     * @return Columna de la celda.
+     */
+    public int colOf(int index) {
+        return index % columns;
+    }
+
+    private void add(int row, int col) {
+        if (size == indices.length) {
+            if (consumer != null) {
+                consumer.accept(indices, size);
+                size = 0;
+            } else {
+                indices = Arrays.copyOf(indices, indices.length * 2);
+            }
+        }
+        indices[size++] = row * columns + col;
+        changedCount++;
+    }
+
+    private void requireRetained() {
+        if (consumer != null) {
+            throw new IllegalStateException("Los índices se transmitieron por bloques y no se conservan.");
+        }
+    }
+}
@@ -46,6 +46,41 @@ public interface BoardInterfaces {
          * @param random Generador de números aleatorios.
          */
         void placeMines(Box[][] boxes, int totalMines, Random random);
+
+        /**
+         * Coloca minas directamente sobre un almacenamiento compacto de celdas.
+         * La implementación por defecto sortea posiciones hasta encontrar celdas libres.
+         *
+         * @param storage Almacenamiento de celdas del tablero.
+         * @param totalMines Número total de minas a colocar.
+         * @param random Generador de números aleatorios.
+         */
+        default void placeMinesInStorage(ICellStorage storage, int totalMines, Random random) {
+            int placedMines = 0;
+            while (placedMines < totalMines) {
+                int row = random.nextInt(storage.getRows());
+                int col = random.nextInt(storage.getColumns());
+                if (!storage.isMine(row, col)) {
+                    storage.setMine(row, col, true);
+                    placedMines++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Define una fuente de números aleatorios intercambiable (por ejemplo {@code Random::nextInt}
+     * o {@code SplittableRandom::nextInt}), al estilo de {@code RandomGenerator}.
+     */
+    @FunctionalInterface
+    interface IRandomSource {
+        /**
+         * Obtiene un entero uniforme en el rango [0, bound).
+         *
+         * @param bound Límite superior exclusivo, debe ser positivo.
+         * @return Entero aleatorio.
+         */
+        int nextInt(int bound);
     }
 
     /**
@@ -58,5 +93,133 @@ public interface BoardInterfaces {
          * @param boxes Matriz de casillas del tablero.
          */
         void calculateAdjacentMines(Box[][] boxes);
+
+        /**
+         * Calcula el número de minas adyacentes sobre un almacenamiento compacto de celdas.
+         * La implementación por defecto suma cada mina a sus vecinas.
+         *
+         * @param storage Almacenamiento de celdas del tablero.
+         */
+        default void calculateAdjacentMinesInStorage(ICellStorage storage) {
+            int rows = storage.getRows();
+            int columns = storage.getColumns();
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < columns; col++) {
+                    if (!storage.isMine(row, col)) {
+                        continue;
+                    }
+                    for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                        for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                            if (!storage.isMine(r, c)) {
+                                storage.setAdjacentMines(r, c, storage.getAdjacentMines(r, c) + 1);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Define el almacenamiento del estado de las celdas del tablero sin objetos por casilla.
+     */
+    interface ICellStorage {
+        /**
+         * @return Número de filas almacenadas.
+         */
+        int getRows();
+
+        /**
+         * @return Número de columnas almacenadas.
+         */
+        int getColumns();
+
+        boolean isMine(int row, int col);
+
+        void setMine(int row, int col, boolean mine);
+
+        boolean isRevealed(int row, int col);
+
+        void setRevealed(int row, int col, boolean revealed);
+
+        boolean isFlagged(int row, int col);
+
+        void setFlagged(int row, int col, boolean flagged);
+
+        int getAdjacentMines(int row, int col);
+
+        void setAdjacentMines(int row, int col, int adjacentMines);
+
+        /**
+         * Registra el observador que recibe los cambios de bandera y de revelado.
+         *
+         * @param listener Observador de cambios, o null para dejar de notificar.
+         */
+        void setStateListener(ICellStateListener listener);
+    }
+
+    /**
+     * Define el observador de cambios de estado de las celdas, usado para mantener
+     * contadores incrementales sin recorrer el tablero.
+     */
+    interface ICellStateListener {
+        /**
+         * Se invoca cuando una celda pasa de no marcada a marcada o viceversa.
+         *
+         * @param flagged Nuevo estado de la bandera.
+         */
+        void onFlagChanged(boolean flagged);
+
+        /**
+         * Se invoca cuando una celda pasa de oculta a revelada o viceversa.
+         *
+         * @param safe True si la celda no contiene mina.
+         * @param revealed Nuevo estado de revelado.
+         */
+        void onRevealChanged(boolean safe, boolean revealed);
+    }
+
+    /**
+     * Define la creación del almacenamiento de celdas para unas dimensiones dadas.
+     */
+    interface ICellStorageFactory {
+        /**
+         * Crea un almacenamiento vacío (sin minas, sin revelar y sin banderas).
+         *
+         * @param rows Número de filas.
+         * @param columns Número de columnas.
+         * @return Almacenamiento de celdas.
+         */
+        ICellStorage create(int rows, int columns);
+    }
+
+    /**
+     * Define la creación de tableros listos para jugar.
+     */
+    @FunctionalInterface
+    interface IBoardFactory {
+        /**
+         * Crea y genera un tablero.
+         *
+         * @param rows Número de filas.
+         * @param columns Número de columnas.
+         * @param totalMines Número total de minas.
+         * @return Tablero generado.
+         */
+        Board create(int rows, int columns, int totalMines);
+    }
+
+    /**
+     * Recibe por bloques los índices de celdas modificadas de un {@link BoardDelta}.
+     */
+    @FunctionalInterface
+    interface IDeltaChunkConsumer {
+        /**
+         * Procesa un bloque de índices ({@code fila * columnas + columna}).
+         *
+         * @param indices Búfer reutilizado; solo es válido durante la llamada.
+         * @param length Número de índices válidos en el búfer.
+         */
+        void accept(int[] indices, int length);
     }
 }
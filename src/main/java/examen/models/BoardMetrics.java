@@ -0,0 +1,328 @@
+package examen.models;
+
+import java.util.Arrays;
+
+import examen.models.BoardInterfaces.ICellStorage;
+import lombok.Value;
+
+/**
+ * Métricas de dificultad de un tablero.
+ *
+ * Una apertura es una región conectada (8 vecinas) de casillas sin mina y con 0 minas
+ * adyacentes; un clic la revela junto con su borde. Un número aislado es una casilla numerada
+ * que no toca ninguna apertura y necesita su propio clic. Las islas son los grupos conectados de
+ * números aislados. El 3BV (Bechtel's Board Benchmark Value) es el mínimo de clics para resolver
+ * el tablero: aperturas más números aislados.
+ */
+@Value
+public class BoardMetrics {
+    private static final byte MINE = 0; // Mina o fuera del tablero.
+    private static final byte NUMBER = 1; // Casilla sin mina con minas adyacentes.
+    private static final byte ZERO = 2; // Casilla sin mina ni minas adyacentes.
+
+    int openings; // Regiones de ceros.
+    int isolatedNumbers; // Números que no tocan ninguna apertura.
+    int islands; // Grupos conectados de números aislados.
+
+    /**
+     * @return 3BV del tablero: aperturas más números aislados.
+     */
+    public int getBbbv() {
+        return openings + isolatedNumbers;
+    }
+
+    /**
+     * Mide un tablero con minas y conteos ya calculados en una sola pasada por filas, leyendo
+     * cada celda una vez. Durante la generación, {@link SlidingWindowAdjacentMineCalculator}
+     * clasifica las filas a medida que calcula sus conteos y no hace falta esta pasada.
+     *
+     * @param cells Celdas del tablero.
+     * @return Métricas del tablero.
+     */
+    public static BoardMetrics measure(ICellStorage cells) {
+        int columns = cells.getColumns();
+        Accumulator accumulator = new Accumulator(columns);
+        byte[] classes = new byte[columns];
+        for (int row = 0; row < cells.getRows(); row++) {
+            classifyRow(cells, row, classes);
+            accumulator.accept(classes);
+        }
+        accumulator.finish();
+        return combine(new Accumulator[] { accumulator });
+    }
+
+    /**
+     * Clasifica una casilla para {@link Accumulator}.
+     *
+     * @param mine True si la casilla tiene mina.
+     * @param adjacentMines Minas adyacentes de la casilla.
+     * @return Clase de la casilla.
+     */
+    static byte classify(boolean mine, int adjacentMines) {
+        return mine ? MINE : adjacentMines == 0 ? ZERO : NUMBER;
+    }
+
+    /**
+     * Une las medidas parciales de franjas consecutivas de filas. Las etiquetas de cada franja
+     * se copian a un espacio común y se unen las de la última fila de una franja con las de la
+     * primera de la siguiente que se tocan.
+     *
+     * @param bands Medidas de cada franja en orden de filas, ya terminadas.
+     * @return Métricas del tablero completo.
+     */
+    static BoardMetrics combine(Accumulator[] bands) {
+        Labels openings = new Labels();
+        Labels islands = new Labels();
+        int isolated = 0;
+        int[] openingOffsets = new int[bands.length];
+        int[] islandOffsets = new int[bands.length];
+        for (int band = 0; band < bands.length; band++) {
+            openingOffsets[band] = openings.copy(bands[band].openingLabels);
+            islandOffsets[band] = islands.copy(bands[band].islandLabels);
+            isolated += bands[band].isolated;
+        }
+        for (int band = 0; band + 1 < bands.length; band++) {
+            Accumulator upper = bands[band];
+            Accumulator lower = bands[band + 1];
+            if (upper.lastOpenings == null || lower.firstOpenings == null) {
+                continue; // Franja sin filas.
+            }
+            openings.stitch(upper.lastOpenings, openingOffsets[band], lower.firstOpenings, openingOffsets[band + 1]);
+            islands.stitch(upper.lastIslands, islandOffsets[band], lower.firstIslands, islandOffsets[band + 1]);
+        }
+        return new BoardMetrics(openings.components, isolated, islands.components);
+    }
+
+    /**
+     * Medida incremental de una franja de filas consecutivas. Recibe las filas ya clasificadas
+     * en orden y decide cada una al llegar la siguiente, con tres filas en memoria para saber si
+     * un número toca un cero y las etiquetas de la fila anterior para unir aperturas e islas
+     * con unión-búsqueda. Las filas de contexto (la anterior y la siguiente a la franja) solo
+     * se usan para esa decisión y no se cuentan.
+     */
+    static final class Accumulator {
+        private final int columns;
+        private byte[] previous;
+        private byte[] current;
+        private byte[] next;
+        private boolean pending; // True si la fila actual es de la franja y aún no se ha decidido.
+        private int[] openingPrevious;
+        private int[] openingCurrent;
+        private int[] islandPrevious;
+        private int[] islandCurrent;
+        private final Labels openingLabels = new Labels();
+        private final Labels islandLabels = new Labels();
+        private int isolated;
+        private int[] firstOpenings; // Etiquetas de la primera fila de la franja (null si no hay filas).
+        private int[] firstIslands;
+        private int[] lastOpenings; // Etiquetas de la última fila, disponibles al terminar.
+        private int[] lastIslands;
+
+        Accumulator(int columns) {
+            this.columns = columns;
+            previous = new byte[columns];
+            current = new byte[columns];
+            next = new byte[columns];
+            openingPrevious = new int[columns];
+            openingCurrent = new int[columns];
+            islandPrevious = new int[columns];
+            islandCurrent = new int[columns];
+        }
+
+        /**
+         * Añade una fila de contexto: la anterior a la franja, antes de la primera fila, o la
+         * siguiente, después de la última.
+         */
+        void context(byte[] row) {
+            push(row, false);
+        }
+
+        /**
+         * Añade la siguiente fila de la franja. El arreglo puede reutilizarse después.
+         */
+        void accept(byte[] row) {
+            push(row, true);
+        }
+
+        /**
+         * Decide la última fila de la franja, tomando como siguiente una fila sin ceros si no se
+         * añadió una de contexto.
+         */
+        void finish() {
+            if (pending) {
+                Arrays.fill(next, MINE);
+                decideCurrent();
+                pending = false;
+            }
+        }
+
+        private void push(byte[] row, boolean own) {
+            System.arraycopy(row, 0, next, 0, columns);
+            if (pending) {
+                decideCurrent();
+            }
+            byte[] rotated = previous;
+            previous = current;
+            current = next;
+            next = rotated;
+            pending = own;
+        }
+
+        private void decideCurrent() {
+            // Ventana deslizante de columnas con algún cero en las tres filas, como en el cálculo de conteos.
+            boolean zeroLeft = false;
+            boolean zeroHere = columns > 0 && columnHasZero(previous, current, next, 0);
+            for (int col = 0; col < columns; col++) {
+                boolean zeroRight = col + 1 < columns && columnHasZero(previous, current, next, col + 1);
+                openingCurrent[col] = 0;
+                islandCurrent[col] = 0;
+                if (current[col] == ZERO) {
+                    openingCurrent[col] = openingLabels.join(openingPrevious, openingCurrent, col);
+                } else if (current[col] == NUMBER && !(zeroLeft || zeroHere || zeroRight)) {
+                    isolated++;
+                    islandCurrent[col] = islandLabels.join(islandPrevious, islandCurrent, col);
+                }
+                zeroLeft = zeroHere;
+                zeroHere = zeroRight;
+            }
+            if (firstOpenings == null) {
+                firstOpenings = openingCurrent.clone();
+                firstIslands = islandCurrent.clone();
+            }
+            int[] labels = openingPrevious;
+            openingPrevious = openingCurrent;
+            openingCurrent = labels;
+            labels = islandPrevious;
+            islandPrevious = islandCurrent;
+            islandCurrent = labels;
+            lastOpenings = openingPrevious;
+            lastIslands = islandPrevious;
+        }
+    }
+
+    private static void classifyRow(ICellStorage cells, int row, byte[] out) {
+        if (cells instanceof BitBoardStorage) {
+            classifyBitBoardRow((BitBoardStorage) cells, row, out);
+            return;
+        }
+        for (int col = 0; col < out.length; col++) {
+            out[col] = cells.isMine(row, col) ? MINE : cells.getAdjacentMines(row, col) == 0 ? ZERO : NUMBER;
+        }
+    }
+
+    /**
+     * Clasifica una fila leyendo directamente los planos de minas y conteos. Los conteos aún no
+     * calculados (modo diferido) se piden al almacenamiento.
+     */
+    private static void classifyBitBoardRow(BitBoardStorage cells, int row, byte[] out) {
+        long[] mines = cells.getMinePlane();
+        byte[] adjacency = cells.getAdjacencyPlane();
+        int base = row * out.length;
+        for (int col = 0; col < out.length; col++) {
+            int index = base + col;
+            if ((mines[index >>> 6] >>> index & 1L) != 0) {
+                out[col] = MINE;
+            } else {
+                int count = adjacency[index] >= 0 ? adjacency[index] : cells.getAdjacentMines(row, col);
+                out[col] = count == 0 ? ZERO : NUMBER;
+            }
+        }
+    }
+
+    private static boolean columnHasZero(byte[] previous, byte[] current, byte[] next, int col) {
+        return previous[col] == ZERO || current[col] == ZERO || next[col] == ZERO;
+    }
+
+    /**
+     * Etiquetas provisionales con unión-búsqueda; cuenta los componentes distintos.
+     */
+    private static final class Labels {
+        private int[] parent = new int[64];
+        private int count; // Etiquetas creadas (la 0 indica ausencia).
+        private int components;
+
+        /**
+         * Etiqueta una celda según sus vecinas ya recorridas: las tres de la fila anterior y la
+         * izquierda. Las vecinas que se tocan entre sí ya comparten componente, así que solo hace
+         * falta unir la de arriba a la derecha con la de arriba a la izquierda o la izquierda.
+         *
+         * @return Etiqueta de la celda.
+         */
+        private int join(int[] previous, int[] current, int col) {
+            if (previous[col] != 0) {
+                return previous[col];
+            }
+            int upLeft = col > 0 ? previous[col - 1] : 0;
+            int left = col > 0 ? current[col - 1] : 0;
+            int upRight = col + 1 < previous.length ? previous[col + 1] : 0;
+            if (upRight != 0) {
+                if (upLeft != 0 || left != 0) {
+                    merge(upRight, upLeft != 0 ? upLeft : left);
+                }
+                return upRight;
+            }
+            if (upLeft != 0 || left != 0) {
+                return upLeft != 0 ? upLeft : left;
+            }
+            return create();
+        }
+
+        private int create() {
+            if (++count == parent.length) {
+                parent = Arrays.copyOf(parent, parent.length * 2);
+            }
+            parent[count] = count;
+            components++;
+            return count;
+        }
+
+        /**
+         * Copia las etiquetas de otra franja, con sus uniones, a continuación de las actuales.
+         *
+         * @return Desplazamiento que convierte una etiqueta de la franja en una de este conjunto.
+         */
+        private int copy(Labels band) {
+            int offset = count;
+            for (int label = 1; label <= band.count; label++) {
+                create();
+            }
+            for (int label = 1; label <= band.count; label++) {
+                merge(offset + label, offset + band.find(label));
+            }
+            return offset;
+        }
+
+        /**
+         * Une las etiquetas de dos filas consecutivas de franjas distintas que se tocan.
+         */
+        private void stitch(int[] upper, int upperOffset, int[] lower, int lowerOffset) {
+            for (int col = 0; col < upper.length; col++) {
+                if (upper[col] == 0) {
+                    continue;
+                }
+                for (int c = Math.max(0, col - 1); c <= Math.min(lower.length - 1, col + 1); c++) {
+                    if (lower[c] != 0) {
+                        merge(upperOffset + upper[col], lowerOffset + lower[c]);
+                    }
+                }
+            }
+        }
+
+        private void merge(int first, int second) {
+            int firstRoot = find(first);
+            int secondRoot = find(second);
+            if (firstRoot != secondRoot) {
+                parent[firstRoot] = secondRoot;
+                components--;
+            }
+        }
+
+        private int find(int label) {
+            while (parent[label] != label) {
+                parent[label] = parent[parent[label]];
+                label = parent[label];
+            }
+            return label;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package examen.models;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import examen.models.BoardInterfaces.IBoardFactory;
+import lombok.Value;
+
+/**
+ * Reserva de tableros generados de antemano por hilos de fondo.
+ *
+ * Cada combinación de filas, columnas y minas solicitada tiene su propia cola acotada de
+ * tableros listos. Al pedir un tablero se entrega uno de la cola sin esperar y se programa su
+ * reposición; si la cola está vacía, el tablero se genera en el hilo que llama. Las primeras
+ * {@code maxPresets} combinaciones pedidas o precalentadas se reponen; las demás siempre se
+ * generan al momento. Expone el número de aciertos y fallos y la latencia de reposición.
+ *
+ * La fábrica debe entregar tableros con las minas ya colocadas (por ejemplo con
+ * {@code firstClickRelocation}); un tablero en modo diferido haría todo el trabajo en el
+ * primer clic y la reserva no ahorraría nada.
+ */
+public class BoardPool implements AutoCloseable {
+    private final IBoardFactory factory; // Crea los tableros, en los productores o en el hilo que llama.
+    private final int capacity; // Tableros listos por combinación.
+    private final int maxPresets; // Combinaciones con reposición en segundo plano.
+    private final ExecutorService producers;
+    private final Map<Preset, Slot> slots = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+    private final AtomicLong maxRefillNanos = new AtomicLong();
+
+    /**
+     * Combinación de dimensiones y minas que identifica una cola de tableros.
+     */
+    @Value
+    public static class Preset {
+        int rows;
+        int columns;
+        int totalMines;
+    }
+
+    /**
+     * Cola de tableros listos de una combinación y reposiciones en curso.
+     */
+    private static final class Slot {
+        private final BlockingQueue<Board> ready;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Slot(int capacity) {
+            this.ready = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    /**
+     * Crea una reserva con dos tableros por combinación, hasta ocho combinaciones y un productor.
+     *
+     * @param factory Fábrica de tableros.
+     */
+    public BoardPool(IBoardFactory factory) {
+        this(factory, 2, 8, 1);
+    }
+
+    /**
+     * Crea una reserva.
+     *
+     * @param factory Fábrica de tableros.
+     * @param capacity Tableros listos por combinación.
+     * @param maxPresets Número máximo de combinaciones con reposición.
+     * @param producerThreads Hilos productores.
+     */
+    public BoardPool(IBoardFactory factory, int capacity, int maxPresets, int producerThreads) {
+        if (capacity <= 0 || maxPresets <= 0 || producerThreads <= 0) {
+            throw new IllegalArgumentException("Pool capacity, presets and producers must be positive");
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+        this.maxPresets = maxPresets;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.producers = Executors.newFixedThreadPool(producerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "board-pool-producer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1); // Cede ante el hilo del juego.
+            return thread;
+        });
+    }
+
+    /**
+     * Registra una combinación y empieza a llenar su cola en segundo plano.
+     *
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param totalMines Número total de minas.
+     */
+    public void warm(int rows, int columns, int totalMines) {
+        Preset preset = new Preset(rows, columns, totalMines);
+        Slot slot = slotFor(preset);
+        if (slot != null) {
+            refill(preset, slot, System.nanoTime());
+        }
+    }
+
+    /**
+     * Entrega un tablero listo de la combinación pedida o, si no hay ninguno, lo genera en el
+     * hilo que llama. En ambos casos programa la reposición de la cola.
+     *
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param totalMines Número total de minas.
+     * @return Tablero generado, de uso exclusivo de quien lo recibe.
+     */
+    public Board acquire(int rows, int columns, int totalMines) {
+        Preset preset = new Preset(rows, columns, totalMines);
+        Slot slot = slotFor(preset);
+        Board board = slot != null ? slot.ready.poll() : null;
+        if (board != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            board = factory.create(rows, columns, totalMines);
+        }
+        if (slot != null) {
+            refill(preset, slot, System.nanoTime());
+        }
+        return board;
+    }
+
+    /**
+     * @param preset Combinación a consultar.
+     * @return Número de tableros listos de la combinación.
+     */
+    public int readyCount(Preset preset) {
+        Slot slot = slots.get(preset);
+        return slot != null ? slot.ready.size() : 0;
+    }
+
+    /**
+     * @return Tableros entregados desde la cola.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Tableros generados en el hilo que llama porque la cola estaba vacía.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Proporción de tableros entregados desde la cola (0 si no se ha pedido ninguno).
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return Tableros repuestos por los productores.
+     */
+    public long getRefills() {
+        return refills.sum();
+    }
+
+    /**
+     * @return Tiempo medio en milisegundos desde que se pide una reposición hasta que el tablero
+     *         queda listo, incluida la espera en la cola de los productores.
+     */
+    public double getAverageRefillLatencyMillis() {
+        long count = refills.sum();
+        return count == 0 ? 0 : refillNanos.sum() / 1e6 / count;
+    }
+
+    /**
+     * @return Mayor latencia de reposición observada, en milisegundos.
+     */
+    public double getMaxRefillLatencyMillis() {
+        return maxRefillNanos.get() / 1e6;
+    }
+
+    /**
+     * Detiene los productores. Las reposiciones en curso se descartan.
+     */
+    @Override
+    public void close() {
+        producers.shutdownNow();
+    }
+
+    /**
+     * Obtiene la cola de una combinación, registrándola si aún queda espacio.
+     */
+    private Slot slotFor(Preset preset) {
+        Slot slot = slots.get(preset);
+        if (slot == null && slots.size() < maxPresets) {
+            slot = slots.computeIfAbsent(preset, key -> new Slot(capacity));
+        }
+        return slot;
+    }
+
+    /**
+     * Programa los tableros que faltan para llenar la cola, contando los que ya están en curso.
+     */
+    private void refill(Preset preset, Slot slot, long requestedAt) {
+        while (slot.ready.size() + slot.inFlight.get() < capacity) {
+            if (slot.inFlight.incrementAndGet() + slot.ready.size() > capacity) {
+                slot.inFlight.decrementAndGet(); // Otro hilo reservó el último hueco.
+                return;
+            }
+            try {
+                producers.execute(() -> produce(preset, slot, requestedAt));
+            } catch (RejectedExecutionException e) {
+                slot.inFlight.decrementAndGet(); // La reserva está cerrada.
+                return;
+            }
+        }
+    }
+
+    private void produce(Preset preset, Slot slot, long requestedAt) {
+        try {
+            Board board = factory.create(preset.getRows(), preset.getColumns(), preset.getTotalMines());
+            if (slot.ready.offer(board)) {
+                long latency = System.nanoTime() - requestedAt;
+                refills.increment();
+                refillNanos.add(latency);
+                maxRefillNanos.accumulateAndGet(latency, Math::max);
+            }
+        } finally {
+            slot.inFlight.decrementAndGet();
+        }
+    }
+}
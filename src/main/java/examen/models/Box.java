@@ -1,7 +1,10 @@
 package examen.models;
 
+import examen.models.BoardInterfaces.ICellStateListener;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 // Implementa patrón builder
@@ -18,6 +21,33 @@ public abstract class Box {
     private boolean isRevealed;
     private boolean isFlagged;
     private int adjacentMines;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient ICellStateListener stateListener; // Tablero que lleva los contadores.
+
+    /**
+     * Marca o desmarca la casilla, notificando al tablero si el estado cambia.
+     *
+     * @param flagged Nuevo estado de la bandera.
+     */
+    public void setFlagged(boolean flagged) {
+        if (flagged != isFlagged && stateListener != null) {
+            stateListener.onFlagChanged(flagged);
+        }
+        isFlagged = flagged;
+    }
+
+    /**
+     * Cambia el estado de revelado, notificando al tablero si el estado cambia.
+     *
+     * @param revealed Nuevo estado de revelado.
+     */
+    public void setRevealed(boolean revealed) {
+        if (revealed != isRevealed && stateListener != null) {
+            stateListener.onRevealChanged(isSafe(), revealed);
+        }
+        isRevealed = revealed;
+    }
 
     /**
      * Método abstracto para revelar la casilla.
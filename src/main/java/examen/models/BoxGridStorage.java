@@ -0,0 +1,82 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.ICellStateListener;
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Adaptador que expone una matriz clásica {@code Box[][]} como {@link ICellStorage}.
+ * Permite que los algoritmos del tablero se escriban una sola vez para ambos modos.
+ */
+class BoxGridStorage implements ICellStorage {
+    private final Box[][] boxes;
+
+    BoxGridStorage(Box[][] boxes) {
+        this.boxes = boxes;
+    }
+
+    @Override
+    public int getRows() {
+        return boxes.length;
+    }
+
+    @Override
+    public int getColumns() {
+        return boxes[0].length;
+    }
+
+    @Override
+    public boolean isMine(int row, int col) {
+        return boxes[row][col] instanceof MinedBox;
+    }
+
+    @Override
+    public void setMine(int row, int col, boolean mine) {
+        Box box = mine ? new MinedBox() : new EmptyBox();
+        box.setMine(mine);
+        box.setXPosition(row);
+        box.setYPosition(col);
+        if (boxes[row][col] != null) {
+            box.setFlagged(boxes[row][col].isFlagged()); // Conserva la bandera de la casilla reemplazada.
+        }
+        boxes[row][col] = box;
+    }
+
+    @Override
+    public boolean isRevealed(int row, int col) {
+        return boxes[row][col].isRevealed();
+    }
+
+    @Override
+    public void setRevealed(int row, int col, boolean revealed) {
+        boxes[row][col].setRevealed(revealed);
+    }
+
+    @Override
+    public boolean isFlagged(int row, int col) {
+        return boxes[row][col].isFlagged();
+    }
+
+    @Override
+    public void setFlagged(int row, int col, boolean flagged) {
+        boxes[row][col].setFlagged(flagged);
+    }
+
+    @Override
+    public int getAdjacentMines(int row, int col) {
+        return boxes[row][col].getAdjacentMines();
+    }
+
+    @Override
+    public void setAdjacentMines(int row, int col, int adjacentMines) {
+        boxes[row][col].setAdjacentMines(adjacentMines);
+    }
+
+    @Override
+    public void setStateListener(ICellStateListener listener) {
+        for (Box[] row : boxes) {
+            for (Box box : row) {
+                box.setStateListener(listener); // Cada casilla notifica sus propios cambios.
+            }
+        }
+    }
+}
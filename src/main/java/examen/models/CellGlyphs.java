@@ -0,0 +1,43 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Tabla precalculada con los símbolos de las casillas para evitar crear cadenas al renderizar.
+ */
+final class CellGlyphs {
+    static final char MINE = 'X'; // Mina revelada.
+    static final char FLAG = 'F'; // Casilla marcada con bandera.
+    static final char HIDDEN = '?'; // Casilla oculta.
+
+    private static final char[] DIGITS = { '0', '1', '2', '3', '4', '5', '6', '7', '8' };
+    private static final String[] DIGIT_STRINGS = { "0", "1", "2", "3", "4", "5", "6", "7", "8" };
+
+    private CellGlyphs() {
+    }
+
+    /**
+     * Obtiene el símbolo de una celda directamente del almacenamiento.
+     *
+     * @param cells Almacenamiento de celdas.
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     * @return Símbolo de la celda.
+     */
+    static char of(ICellStorage cells, int row, int col) {
+        if (cells.isRevealed(row, col)) {
+            return cells.isMine(row, col) ? MINE : DIGITS[cells.getAdjacentMines(row, col)];
+        }
+        return cells.isFlagged(row, col) ? FLAG : HIDDEN;
+    }
+
+    /**
+     * Obtiene la cadena constante de un número de minas adyacentes.
+     *
+     * @param count Número de minas adyacentes (0 a 8).
+     * @return Cadena compartida con el número.
+     */
+    static String digit(int count) {
+        return DIGIT_STRINGS[count];
+    }
+}
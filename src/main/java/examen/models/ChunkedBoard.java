@@ -0,0 +1,406 @@
+package examen.models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import examen.models.BoardInterfaces.IMineStrategy;
+import lombok.Getter;
+
+/**
+ * Tablero disperso y prácticamente infinito dividido en bloques de 64x64 casillas.
+ *
+ * Cada bloque se genera la primera vez que se toca, con una semilla derivada de la semilla del
+ * tablero y de su posición, de modo que un bloque descartado se puede volver a generar idéntico.
+ * Solo se mantienen en memoria los bloques usados más recientemente; al expulsar uno con casillas
+ * reveladas o marcadas, su estado se guarda en disco, en un archivo propio de la semilla y la
+ * densidad del tablero, y se recupera al volver a tocarlo. La
+ * memoria queda acotada por la capacidad de la caché y no por el tamaño del tablero.
+ *
+ * Las coordenadas son {@code long} y pueden ser negativas; el índice de bloque debe caber en un
+ * {@code int}, lo que permite más de 10^11 filas y columnas en cada sentido.
+ */
+public class ChunkedBoard {
+    public static final int CHUNK_SIZE = 64; // Lado de un bloque (una palabra de 64 bits por fila).
+    public static final int DEFAULT_CACHE_CHUNKS = 1024; // Unos 6 MB de bloques en memoria.
+    public static final int DEFAULT_CASCADE_LIMIT = 1 << 20; // Casillas reveladas como máximo por jugada.
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int CHUNK_SHIFT = 6;
+
+    @Getter
+    private final long seed; // Semilla del tablero.
+    @Getter
+    private final int minesPerChunk; // Minas de cada bloque.
+    private final IMineStrategy mineStrategy; // Estrategia para colocar las minas de un bloque.
+    private final Path spillDirectory; // Carpeta donde se guardan los bloques expulsados.
+    private final LinkedHashMap<Long, Chunk> chunks; // Bloques en memoria en orden de uso (LRU).
+    @Getter
+    private long revealedCount; // Casillas reveladas en todo el tablero.
+    @Getter
+    private long flagCount; // Banderas colocadas en todo el tablero.
+    @Getter
+    private long evictionCount; // Bloques expulsados de la memoria.
+    @Getter
+    private long spillCount; // Bloques escritos en disco.
+    private long[] cascade = new long[64]; // Pares (fila, columna) de ceros revelados con vecinos por revelar.
+    private int cascadeSize;
+
+    /**
+     * Crea un tablero con la estrategia de minas y la caché predeterminadas.
+     *
+     * @param seed Semilla del tablero.
+     * @param minesPerChunk Minas de cada bloque de 64x64.
+     * @param spillDirectory Carpeta para los bloques expulsados.
+     */
+    public ChunkedBoard(long seed, int minesPerChunk, Path spillDirectory) {
+        this(seed, minesPerChunk, spillDirectory, DEFAULT_CACHE_CHUNKS, new SampledMinePlacer());
+    }
+
+    /**
+     * Crea un tablero por bloques.
+     *
+     * @param seed Semilla del tablero.
+     * @param minesPerChunk Minas de cada bloque de 64x64.
+     * @param spillDirectory Carpeta para los bloques expulsados.
+     * @param cacheChunks Número máximo de bloques en memoria.
+     * @param mineStrategy Estrategia para colocar las minas de un bloque.
+     */
+    public ChunkedBoard(long seed, int minesPerChunk, Path spillDirectory, int cacheChunks, IMineStrategy mineStrategy) {
+        if (minesPerChunk <= 0 || minesPerChunk >= CHUNK_CELLS) {
+            throw new IllegalArgumentException("Invalid number of mines per chunk: " + minesPerChunk);
+        }
+        if (cacheChunks <= 0) {
+            throw new IllegalArgumentException("Chunk cache must hold at least one chunk");
+        }
+        this.seed = seed;
+        this.minesPerChunk = minesPerChunk;
+        this.mineStrategy = mineStrategy;
+        this.spillDirectory = spillDirectory;
+        this.chunks = new LinkedHashMap<>(Math.min(cacheChunks, 1 << 16) * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() <= cacheChunks) {
+                    return false;
+                }
+                evict(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return True si la casilla tiene una mina.
+     */
+    public boolean isMine(long row, long col) {
+        return chunkAt(row, col).cells.isMine(localOf(row), localOf(col));
+    }
+
+    /**
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return True si la casilla está revelada.
+     */
+    public boolean isRevealed(long row, long col) {
+        return chunkAt(row, col).cells.isRevealed(localOf(row), localOf(col));
+    }
+
+    /**
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return True si la casilla tiene una bandera.
+     */
+    public boolean isFlagged(long row, long col) {
+        return chunkAt(row, col).cells.isFlagged(localOf(row), localOf(col));
+    }
+
+    /**
+     * Cuenta las minas vecinas de una casilla, incluidas las de bloques contiguos.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Número de minas adyacentes.
+     */
+    public int getAdjacentMines(long row, long col) {
+        int localRow = localOf(row);
+        int localCol = localOf(col);
+        int count = 0;
+        if (localRow > 0 && localRow < CHUNK_SIZE - 1 && localCol > 0 && localCol < CHUNK_SIZE - 1) {
+            BitBoardStorage cells = chunkAt(row, col).cells; // Vecinas en el mismo bloque: una sola búsqueda.
+            for (int r = localRow - 1; r <= localRow + 1; r++) {
+                for (int c = localCol - 1; c <= localCol + 1; c++) {
+                    if ((r != localRow || c != localCol) && cells.isMine(r, c)) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+        for (long r = row - 1; r <= row + 1; r++) {
+            for (long c = col - 1; c <= col + 1; c++) {
+                if ((r != row || c != col) && isMine(r, c)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Coloca o retira una bandera de una casilla oculta.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @param flagged Nuevo estado de la bandera.
+     * @return True si el estado de la casilla cambió.
+     */
+    public boolean setFlagged(long row, long col, boolean flagged) {
+        Chunk chunk = chunkAt(row, col);
+        int r = localOf(row);
+        int c = localOf(col);
+        if (chunk.cells.isRevealed(r, c) || chunk.cells.isFlagged(r, c) == flagged) {
+            return false;
+        }
+        chunk.cells.setFlagged(r, c, flagged);
+        chunk.dirty = true;
+        flagCount += flagged ? 1 : -1;
+        return true;
+    }
+
+    /**
+     * Revela una casilla con el límite de cascada predeterminado.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Número de casillas reveladas.
+     * @see #reveal(long, long, int)
+     */
+    public int reveal(long row, long col) {
+        return reveal(row, col, DEFAULT_CASCADE_LIMIT);
+    }
+
+    /**
+     * Revela una casilla y, si no tiene minas alrededor, la región conectada de casillas en cero
+     * y su borde numerado, retirando las banderas.
+     *
+     * Cada casilla se revela al descubrirla y solo los ceros pasan a la pila de la cascada, así
+     * que ninguna casilla se apila dos veces y la pila nunca supera las casillas reveladas. Si la
+     * cascada alcanza el límite, los ceros con vecinos ocultos quedan en la pila y la siguiente
+     * jugada la continúa antes de detenerse, incluso si se elige una casilla ya revelada.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @param limit Número máximo de casillas a revelar.
+     * @return Número de casillas reveladas (la casilla es una mina si se reveló una sin cascada).
+     */
+    public int reveal(long row, long col, int limit) {
+        int revealed = 0;
+        if (!isRevealed(row, col)) {
+            int adjacent = revealCell(row, col);
+            revealed++;
+            if (adjacent < 0) {
+                return revealed; // Una mina detiene la jugada.
+            }
+            if (adjacent == 0) {
+                push(row, col);
+            }
+        }
+        while (cascadeSize > 0) {
+            long c = cascade[--cascadeSize];
+            long r = cascade[--cascadeSize];
+            for (long nr = r - 1; nr <= r + 1; nr++) {
+                for (long nc = c - 1; nc <= c + 1; nc++) {
+                    if ((nr == r && nc == c) || isRevealed(nr, nc)) {
+                        continue;
+                    }
+                    if (revealed >= limit) {
+                        push(r, c); // Le quedan vecinos ocultos: sigue en la frontera.
+                        return revealed;
+                    }
+                    if (revealCell(nr, nc) == 0) {
+                        push(nr, nc);
+                    }
+                    revealed++;
+                }
+            }
+        }
+        return revealed;
+    }
+
+    /**
+     * @return Casillas en cero de una cascada interrumpida por el límite que aún tienen vecinos
+     *         por revelar.
+     */
+    public int getPendingCascadeCells() {
+        return cascadeSize / 2;
+    }
+
+    /**
+     * Revela una casilla oculta, retirando su bandera.
+     *
+     * @return Minas adyacentes, o -1 si la casilla es una mina.
+     */
+    private int revealCell(long row, long col) {
+        // Los vecinos se consultan antes de modificar el bloque: pueden provocar su expulsión.
+        int adjacent = isMine(row, col) ? -1 : getAdjacentMines(row, col);
+        Chunk chunk = chunkAt(row, col);
+        int localRow = localOf(row);
+        int localCol = localOf(col);
+        if (chunk.cells.isFlagged(localRow, localCol)) {
+            chunk.cells.setFlagged(localRow, localCol, false);
+            flagCount--;
+        }
+        chunk.cells.setRevealed(localRow, localCol, true);
+        chunk.cells.setAdjacentMines(localRow, localCol, Math.max(adjacent, 0));
+        chunk.dirty = true;
+        revealedCount++;
+        return adjacent;
+    }
+
+    private void push(long row, long col) {
+        if (cascadeSize + 2 > cascade.length) {
+            cascade = Arrays.copyOf(cascade, cascade.length * 2);
+        }
+        cascade[cascadeSize++] = row;
+        cascade[cascadeSize++] = col;
+    }
+
+    /**
+     * Obtiene el símbolo de una casilla con la misma tabla que los renderizadores.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Símbolo de la casilla.
+     */
+    public char glyphAt(long row, long col) {
+        return CellGlyphs.of(chunkAt(row, col).cells, localOf(row), localOf(col));
+    }
+
+    /**
+     * @return Número de bloques en memoria.
+     */
+    public int getLoadedChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Guarda en disco todos los bloques en memoria con cambios pendientes.
+     */
+    public void flush() {
+        for (Map.Entry<Long, Chunk> entry : chunks.entrySet()) {
+            if (entry.getValue().dirty) {
+                spill(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Obtiene el bloque de una casilla, generándolo o leyéndolo de disco si no está en memoria.
+     */
+    private Chunk chunkAt(long row, long col) {
+        long key = keyOf(chunkIndexOf(row), chunkIndexOf(col));
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = load(key);
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Genera las minas de un bloque a partir de su semilla y superpone el estado guardado, si existe.
+     */
+    private Chunk load(long key) {
+        BitBoardStorage cells = new BitBoardStorage(CHUNK_SIZE, CHUNK_SIZE);
+        mineStrategy.placeMinesInStorage(cells, minesPerChunk, new Random(chunkSeed(key)));
+        Path file = spillFile(key);
+        if (Files.exists(file)) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+                buffer.asLongBuffer().get(cells.getRevealedPlane());
+                buffer.position(CHUNK_SIZE * Long.BYTES);
+                buffer.asLongBuffer().get(cells.getFlagPlane());
+                buffer.position(2 * CHUNK_SIZE * Long.BYTES);
+                buffer.get(cells.getAdjacencyPlane());
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo leer el bloque " + file, e);
+            }
+        }
+        return new Chunk(cells);
+    }
+
+    private void evict(long key, Chunk chunk) {
+        evictionCount++;
+        if (chunk.dirty) {
+            spill(key, chunk); // Los bloques sin cambios se regeneran a partir de la semilla.
+        }
+    }
+
+    private void spill(long key, Chunk chunk) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * CHUNK_SIZE * Long.BYTES + CHUNK_CELLS);
+        buffer.asLongBuffer().put(chunk.cells.getRevealedPlane());
+        buffer.position(CHUNK_SIZE * Long.BYTES);
+        buffer.asLongBuffer().put(chunk.cells.getFlagPlane());
+        buffer.position(2 * CHUNK_SIZE * Long.BYTES);
+        buffer.put(chunk.cells.getAdjacencyPlane());
+        try {
+            Files.createDirectories(spillDirectory);
+            Files.write(spillFile(key), buffer.array());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el bloque en " + spillDirectory, e);
+        }
+        chunk.dirty = false;
+        spillCount++;
+    }
+
+    private Path spillFile(long key) {
+        // La semilla y la densidad forman parte del nombre: tableros distintos pueden compartir carpeta.
+        return spillDirectory.resolve("chunk_" + Long.toHexString(seed) + "_" + minesPerChunk + "_"
+                + (int) (key >> 32) + "_" + (int) key + ".bin");
+    }
+
+    /**
+     * Mezcla la semilla del tablero con la posición del bloque (finalizador de SplitMix64).
+     */
+    private long chunkSeed(long key) {
+        long z = seed + key * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int chunkIndexOf(long coordinate) {
+        long index = coordinate >> CHUNK_SHIFT; // Equivale a floorDiv también para negativos.
+        if (index < Integer.MIN_VALUE || index > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Coordinate out of range: " + coordinate);
+        }
+        return (int) index;
+    }
+
+    private static int localOf(long coordinate) {
+        return (int) (coordinate & (CHUNK_SIZE - 1));
+    }
+
+    private static long keyOf(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Estado en memoria de un bloque.
+     */
+    private static final class Chunk {
+        private final BitBoardStorage cells; // Minas, casillas reveladas, banderas y conteos del bloque.
+        private boolean dirty; // True si cambió desde la última vez que se guardó.
+
+        private Chunk(BitBoardStorage cells) {
+            this.cells = cells;
+        }
+    }
+}
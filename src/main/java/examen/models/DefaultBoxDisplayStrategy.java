@@ -17,7 +17,7 @@ public class DefaultBoxDisplayStrategy implements IBoxDisplayStrategy {
     public String getRepresentation(Box box) {
         if (box.isRevealed()) {
             return box instanceof MinedBox ? "X" : 
-                String.valueOf(((EmptyBox) box).getAdjacentMinesCount()); // Representa el número de minas adyacentes.
+                CellGlyphs.digit(((EmptyBox) box).getAdjacentMinesCount()); // Representa el número de minas adyacentes.
         } else if (box.isFlagged()) {
             return "F"; // Casilla marcada con bandera.
         }
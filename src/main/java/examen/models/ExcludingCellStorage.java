@@ -0,0 +1,104 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.ICellStateListener;
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Vista de una sola fila sobre otro almacenamiento que omite un conjunto pequeño de celdas.
+ * Permite reutilizar cualquier {@link BoardInterfaces.IMineStrategy} para colocar minas fuera
+ * de una zona protegida (por ejemplo, alrededor del primer clic). Todas las operaciones se
+ * delegan en la celda real correspondiente.
+ */
+class ExcludingCellStorage implements ICellStorage {
+    private final ICellStorage target;
+    private final int[] excluded; // Índices excluidos en orden ascendente.
+    private final int cells; // Celdas visibles en la vista.
+
+    /**
+     * @param target Almacenamiento real.
+     * @param excluded Índices lineales excluidos, en orden ascendente y sin repetir.
+     */
+    ExcludingCellStorage(ICellStorage target, int[] excluded) {
+        this.target = target;
+        this.excluded = excluded;
+        this.cells = target.getRows() * target.getColumns() - excluded.length;
+    }
+
+    @Override
+    public int getRows() {
+        return 1;
+    }
+
+    @Override
+    public int getColumns() {
+        return cells;
+    }
+
+    @Override
+    public boolean isMine(int row, int col) {
+        int index = map(col);
+        return target.isMine(index / target.getColumns(), index % target.getColumns());
+    }
+
+    @Override
+    public void setMine(int row, int col, boolean mine) {
+        int index = map(col);
+        target.setMine(index / target.getColumns(), index % target.getColumns(), mine);
+    }
+
+    @Override
+    public boolean isRevealed(int row, int col) {
+        int index = map(col);
+        return target.isRevealed(index / target.getColumns(), index % target.getColumns());
+    }
+
+    @Override
+    public void setRevealed(int row, int col, boolean revealed) {
+        int index = map(col);
+        target.setRevealed(index / target.getColumns(), index % target.getColumns(), revealed);
+    }
+
+    @Override
+    public boolean isFlagged(int row, int col) {
+        int index = map(col);
+        return target.isFlagged(index / target.getColumns(), index % target.getColumns());
+    }
+
+    @Override
+    public void setFlagged(int row, int col, boolean flagged) {
+        int index = map(col);
+        target.setFlagged(index / target.getColumns(), index % target.getColumns(), flagged);
+    }
+
+    @Override
+    public int getAdjacentMines(int row, int col) {
+        int index = map(col);
+        return target.getAdjacentMines(index / target.getColumns(), index % target.getColumns());
+    }
+
+    @Override
+    public void setAdjacentMines(int row, int col, int count) {
+        int index = map(col);
+        target.setAdjacentMines(index / target.getColumns(), index % target.getColumns(), count);
+    }
+
+    @Override
+    public void setStateListener(ICellStateListener listener) {
+        // Los cambios se notifican a través del almacenamiento real.
+    }
+
+    /**
+     * Convierte un índice de la vista en el índice real saltando las celdas excluidas.
+     */
+    private int map(int virtualIndex) {
+        int index = virtualIndex;
+        for (int skipped : excluded) {
+            if (skipped <= index) {
+                index++;
+            } else {
+                break;
+            }
+        }
+        return index;
+    }
+}
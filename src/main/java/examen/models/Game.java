@@ -56,14 +56,22 @@ public class Game implements IBoardManipulation {
 
     /**
      * Incrementa el contador de banderas en el tablero.
+     *
+     * @deprecated El tablero mantiene el contador con los cambios de las celdas; ver
+     *             {@link Board#setFlagCount(int)}.
      */
+    @Deprecated
     public void increaseFlagCount() {
         board.setFlagCount(board.getFlagCount() + 1); // Actualiza el contador de banderas.
     }
 
     /**
      * Decrementa el contador de banderas en el tablero.
+     *
+     * @deprecated El tablero mantiene el contador con los cambios de las celdas; ver
+     *             {@link Board#setFlagCount(int)}.
      */
+    @Deprecated
     public void decreaseFlagCount() {
         board.setFlagCount(board.getFlagCount() - 1); // Actualiza el contador de banderas.
     }
@@ -75,6 +83,19 @@ public class Game implements IBoardManipulation {
         renderer.printBoard(board);
     }
 
+    /**
+     * Actualiza la salida del tablero tras una jugada.
+     *
+     * @param delta Celdas modificadas por la jugada, o null para imprimir el tablero completo.
+     */
+    public void printChanges(BoardDelta delta) {
+        if (delta == null) {
+            renderer.printBoard(board);
+        } else {
+            renderer.printChanges(board, delta);
+        }
+    }
+
     /**
      * Imprime una vista detallada del tablero, incluyendo información adicional.
      */
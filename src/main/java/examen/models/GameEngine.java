@@ -0,0 +1,161 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.IDeltaChunkConsumer;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Motor de juego sin interfaz: aplica las jugadas sobre un {@link Game} y devuelve
+ * resultados estructurados sin leer de la consola ni escribir en ella.
+ *
+ * Es la base para bots, servidores y pruebas de rendimiento; {@code GameController}
+ * solo traduce sus resultados a mensajes de la vista.
+ */
+public class GameEngine {
+
+    /**
+     * Estado global de la partida.
+     */
+    public enum Status {
+        IN_PROGRESS, WON, LOST
+    }
+
+    /**
+     * Resultado concreto de una jugada.
+     */
+    public enum Outcome {
+        REVEALED, // Se revelaron una o más casillas.
+        MINE_HIT, // La casilla contenía una mina: partida perdida.
+        FLAGGED, // Se colocó una bandera.
+        UNFLAGGED, // Se quitó una bandera.
+        ALREADY_REVEALED, // La casilla ya estaba revelada.
+        CANNOT_FLAG_REVEALED, // No se puede marcar una casilla revelada.
+        NO_FLAGS_LEFT, // Se usaron todas las banderas disponibles.
+        OUT_OF_RANGE, // La coordenada no existe en el tablero.
+        GAME_OVER // La partida ya había terminado.
+    }
+
+    /**
+     * Resultado inmutable de una jugada.
+     */
+    @Value
+    public static class MoveResult {
+        Outcome outcome; // Qué ocurrió con la jugada.
+        Status status; // Estado de la partida tras la jugada.
+        int flagsRemoved; // Banderas retiradas por una cascada de revelado.
+        BoardDelta delta; // Celdas modificadas por la jugada (null si no cambió nada).
+
+        /**
+         * @return True si la jugada modificó el tablero.
+         */
+        public boolean isChanged() {
+            return outcome == Outcome.REVEALED || outcome == Outcome.MINE_HIT
+                    || outcome == Outcome.FLAGGED || outcome == Outcome.UNFLAGGED;
+        }
+    }
+
+    @Getter
+    private final Game game;
+    private Status status;
+
+    /**
+     * Crea un motor sobre una partida existente.
+     *
+     * @param game Partida a controlar.
+     */
+    public GameEngine(Game game) {
+        this.game = game;
+        this.status = game.getBoard().allNonMinedBoxesRevealed() ? Status.WON : Status.IN_PROGRESS;
+    }
+
+    /**
+     * Revela una casilla.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Resultado de la jugada, con el delta completo de celdas reveladas.
+     */
+    public MoveResult reveal(int row, int col) {
+        return reveal(row, col, null);
+    }
+
+    /**
+     * Revela una casilla entregando las celdas modificadas por bloques mientras avanza la
+     * cascada, de modo que la memoria usada no depende del tamaño de la región.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @param consumer Destino de los bloques de índices, o null para conservarlos en el delta.
+     * @return Resultado de la jugada.
+     */
+    public MoveResult reveal(int row, int col, IDeltaChunkConsumer consumer) {
+        Board board = game.getBoard();
+        if (status != Status.IN_PROGRESS) {
+            return result(Outcome.GAME_OVER, 0, null);
+        }
+        if (!board.isValidPosition(row, col)) {
+            return result(Outcome.OUT_OF_RANGE, 0, null);
+        }
+        board.commitDeferredMines(row, col); // El primer clic nunca cae en una mina.
+        Box box = board.getBox(row, col);
+        if (box.isRevealed()) {
+            return result(Outcome.ALREADY_REVEALED, 0, null);
+        }
+        if (box instanceof MinedBox) {
+            status = Status.LOST;
+            return result(Outcome.MINE_HIT, 0, null);
+        }
+        BoardDelta delta = consumer == null ? new BoardDelta(board.getColumns())
+                : new BoardDelta(board.getColumns(), BoardDelta.DEFAULT_CHUNK_SIZE, consumer);
+        int flagsRemoved = board.revealAdjacent(row, col, delta);
+        delta.flush();
+        if (board.allNonMinedBoxesRevealed()) {
+            status = Status.WON;
+        }
+        return result(Outcome.REVEALED, flagsRemoved, delta);
+    }
+
+    /**
+     * Marca o desmarca una casilla con una bandera.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Resultado de la jugada.
+     */
+    public MoveResult toggleFlag(int row, int col) {
+        Board board = game.getBoard();
+        if (status != Status.IN_PROGRESS) {
+            return result(Outcome.GAME_OVER, 0, null);
+        }
+        if (!board.isValidPosition(row, col)) {
+            return result(Outcome.OUT_OF_RANGE, 0, null);
+        }
+        Box box = board.getBox(row, col);
+        if (box.isRevealed()) {
+            return result(Outcome.CANNOT_FLAG_REVEALED, 0, null);
+        }
+        BoardDelta delta = new BoardDelta(board.getColumns());
+        if (box.isFlagged()) {
+            board.setFlagged(row, col, false, delta);
+            return result(Outcome.UNFLAGGED, 0, delta);
+        }
+        if (board.getFlagCount() >= board.getTotalMines()) {
+            return result(Outcome.NO_FLAGS_LEFT, 0, null);
+        }
+        board.setFlagged(row, col, true, delta);
+        return result(Outcome.FLAGGED, 0, delta);
+    }
+
+    /**
+     * Obtiene el estado actual de la partida.
+     *
+     * @return Estado de la partida.
+     */
+    public Status status() {
+        return status;
+    }
+
+    private MoveResult result(Outcome outcome, int flagsRemoved, BoardDelta delta) {
+        return new MoveResult(outcome, status, flagsRemoved, delta);
+    }
+}
@@ -22,6 +22,17 @@ public interface GameInterfaces {
          * @param board Tablero a imprimir.
          */
         void printDetailedBoard(Board board);
+
+        /**
+         * Actualiza la salida tras una jugada conociendo las celdas que cambiaron. Por defecto
+         * vuelve a imprimir el tablero completo.
+         *
+         * @param board Tablero a imprimir.
+         * @param delta Celdas modificadas por la jugada.
+         */
+        default void printChanges(Board board, BoardDelta delta) {
+            printBoard(board);
+        }
     }
 
     /**
@@ -0,0 +1,236 @@
+package examen.models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import examen.models.BoardInterfaces.ICellStateListener;
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Almacenamiento de celdas proyectado en memoria sobre un archivo.
+ *
+ * Los planos de minas, casillas reveladas y banderas (un bit por celda) y los conteos de minas
+ * adyacentes (un byte por celda) viven en regiones de un archivo mapeado con
+ * {@link FileChannel#map}, de modo que el sistema operativo solo carga las páginas que se usan
+ * y el uso del heap no depende del tamaño del tablero. Los bits siguen el mismo orden que las
+ * palabras little-endian de {@link BitBoardStorage}.
+ *
+ * Estructura del archivo:
+ * <pre>
+ * cabecera (tamaño libre para el llamador) | minas | reveladas | banderas | conteos
+ * </pre>
+ * Cada plano de bits ocupa ceil(celdas/64) palabras de 8 bytes. El archivo sirve también de
+ * partida guardada: {@link #force()} basta para que el estado llegue al disco.
+ */
+public class MappedCellStorage implements ICellStorage {
+    private final int rows;
+    private final int columns;
+    private final MappedByteBuffer header; // Región reservada para metadatos del llamador.
+    private final MappedByteBuffer mines; // Plano de bits de minas.
+    private final MappedByteBuffer revealed; // Plano de bits de casillas reveladas.
+    private final MappedByteBuffer flagged; // Plano de bits de banderas.
+    private final MappedByteBuffer adjacentMines; // Conteo de minas adyacentes por celda.
+    private ICellStateListener stateListener; // Observador de cambios (contadores del tablero).
+
+    private MappedCellStorage(int rows, int columns, FileChannel channel, int headerBytes) throws IOException {
+        this.rows = rows;
+        this.columns = columns;
+        long planeBytes = planeBytes(rows, columns);
+        long offset = 0;
+        header = map(channel, offset, headerBytes);
+        offset += headerBytes;
+        mines = map(channel, offset, planeBytes);
+        offset += planeBytes;
+        revealed = map(channel, offset, planeBytes);
+        offset += planeBytes;
+        flagged = map(channel, offset, planeBytes);
+        offset += planeBytes;
+        adjacentMines = map(channel, offset, (long) rows * columns);
+    }
+
+    /**
+     * Crea un archivo nuevo con todas las celdas vacías y lo proyecta en memoria. El archivo se
+     * prepara con un nombre temporal y reemplaza al anterior de forma atómica, de modo que las
+     * proyecciones abiertas sobre el archivo anterior siguen siendo válidas.
+     *
+     * @param file Ruta del archivo.
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param headerBytes Bytes reservados al inicio del archivo.
+     * @return Almacenamiento proyectado.
+     */
+    public static MappedCellStorage create(Path file, int rows, int columns, int headerBytes) {
+        validate(rows, columns);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedCellStorage storage = new MappedCellStorage(rows, columns, channel, headerBytes);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return storage; // La proyección sigue activa tras cerrar el canal.
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el tablero proyectado en " + file, e);
+        }
+    }
+
+    /**
+     * Proyecta en memoria un archivo existente creado con {@link #create}.
+     *
+     * @param file Ruta del archivo.
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param headerBytes Bytes reservados al inicio del archivo.
+     * @return Almacenamiento proyectado.
+     * @throws IOException Si el archivo no existe o es más corto de lo esperado.
+     */
+    public static MappedCellStorage open(Path file, int rows, int columns, int headerBytes) throws IOException {
+        validate(rows, columns);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long expected = fileSize(rows, columns, headerBytes);
+            if (channel.size() < expected) {
+                throw new IOException("Archivo truncado: " + channel.size() + " de " + expected + " bytes");
+            }
+            return new MappedCellStorage(rows, columns, channel, headerBytes);
+        }
+    }
+
+    /**
+     * Calcula el tamaño del archivo de un tablero.
+     *
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param headerBytes Bytes reservados al inicio del archivo.
+     * @return Tamaño en bytes.
+     */
+    public static long fileSize(int rows, int columns, int headerBytes) {
+        return headerBytes + 3 * planeBytes(rows, columns) + (long) rows * columns;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean isMine(int row, int col) {
+        return get(mines, indexOf(row, col));
+    }
+
+    @Override
+    public void setMine(int row, int col, boolean mine) {
+        set(mines, indexOf(row, col), mine);
+    }
+
+    @Override
+    public boolean isRevealed(int row, int col) {
+        return get(revealed, indexOf(row, col));
+    }
+
+    @Override
+    public void setRevealed(int row, int col, boolean value) {
+        int index = indexOf(row, col);
+        if (get(revealed, index) == value) {
+            return;
+        }
+        set(revealed, index, value);
+        if (stateListener != null) {
+            stateListener.onRevealChanged(!get(mines, index), value);
+        }
+    }
+
+    @Override
+    public boolean isFlagged(int row, int col) {
+        return get(flagged, indexOf(row, col));
+    }
+
+    @Override
+    public void setFlagged(int row, int col, boolean value) {
+        int index = indexOf(row, col);
+        if (get(flagged, index) == value) {
+            return;
+        }
+        set(flagged, index, value);
+        if (stateListener != null) {
+            stateListener.onFlagChanged(value);
+        }
+    }
+
+    @Override
+    public int getAdjacentMines(int row, int col) {
+        return adjacentMines.get(indexOf(row, col));
+    }
+
+    @Override
+    public void setAdjacentMines(int row, int col, int count) {
+        adjacentMines.put(indexOf(row, col), (byte) count);
+    }
+
+    @Override
+    public void setStateListener(ICellStateListener listener) {
+        this.stateListener = listener;
+    }
+
+    /**
+     * Obtiene la región de cabecera reservada al inicio del archivo, en little-endian.
+     *
+     * @return Vista independiente de la cabecera, posicionada al inicio.
+     */
+    public ByteBuffer getHeader() {
+        return header.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Escribe en disco las páginas modificadas de todas las regiones.
+     */
+    public void force() {
+        header.force();
+        mines.force();
+        revealed.force();
+        flagged.force();
+        adjacentMines.force();
+    }
+
+    private int indexOf(int row, int col) {
+        return row * columns + col;
+    }
+
+    private static boolean get(MappedByteBuffer plane, int index) {
+        return (plane.get(index >>> 3) & (1 << (index & 7))) != 0;
+    }
+
+    private static void set(MappedByteBuffer plane, int index, boolean value) {
+        int position = index >>> 3;
+        int bits = plane.get(position);
+        plane.put(position, (byte) (value ? bits | (1 << (index & 7)) : bits & ~(1 << (index & 7))));
+    }
+
+    private static long planeBytes(int rows, int columns) {
+        return (((long) rows * columns + 63) >>> 6) * Long.BYTES;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, offset, size);
+    }
+
+    private static void validate(int rows, int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive");
+        }
+        long cells = (long) rows * columns;
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large for mapped storage: " + cells + " cells");
+        }
+    }
+}
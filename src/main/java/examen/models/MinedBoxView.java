@@ -0,0 +1,57 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Vista de una casilla minada respaldada por un {@link ICellStorage}.
+ * Se crea bajo demanda y todas las lecturas y escrituras se delegan al almacenamiento.
+ */
+class MinedBoxView extends MinedBox {
+    private final transient ICellStorage storage;
+
+    MinedBoxView(ICellStorage storage, int row, int col) {
+        this.storage = storage;
+        setXPosition(row);
+        setYPosition(col);
+    }
+
+    @Override
+    public boolean isMine() {
+        return storage.isMine(getXPosition(), getYPosition());
+    }
+
+    @Override
+    public void setMine(boolean mine) {
+        storage.setMine(getXPosition(), getYPosition(), mine);
+    }
+
+    @Override
+    public boolean isRevealed() {
+        return storage.isRevealed(getXPosition(), getYPosition());
+    }
+
+    @Override
+    public void setRevealed(boolean revealed) {
+        storage.setRevealed(getXPosition(), getYPosition(), revealed);
+    }
+
+    @Override
+    public boolean isFlagged() {
+        return storage.isFlagged(getXPosition(), getYPosition());
+    }
+
+    @Override
+    public void setFlagged(boolean flagged) {
+        storage.setFlagged(getXPosition(), getYPosition(), flagged);
+    }
+
+    @Override
+    public int getAdjacentMines() {
+        return storage.getAdjacentMines(getXPosition(), getYPosition());
+    }
+
+    @Override
+    public void setAdjacentMines(int adjacentMines) {
+        storage.setAdjacentMines(getXPosition(), getYPosition(), adjacentMines);
+    }
+}
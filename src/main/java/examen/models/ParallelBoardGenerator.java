@@ -0,0 +1,191 @@
+package examen.models;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import examen.models.BoardInterfaces.ICellStorage;
+import lombok.Getter;
+
+/**
+ * Generación de tableros en paralelo por franjas de filas sobre un {@link ForkJoinPool}.
+ *
+ * El tablero se divide en franjas de colocación de unas 65 536 celdas, cuyo tamaño solo depende
+ * de las columnas y no de la configuración del generador, de modo que la semilla basta para
+ * reproducir el tablero. Cada franja recibe una parte de las minas proporcional a sus celdas (las minas sobrantes del redondeo se asignan
+ * a franjas elegidas al azar) y las coloca con {@link SampledMinePlacer} usando su propio flujo
+ * de {@link SplittableRandom}, dividido del flujo raíz en orden de franja. Después se calculan
+ * los conteos de minas adyacentes por franjas de {@code bandCells} celdas, leyendo una fila de
+ * margen a cada lado, y en la misma pasada sus {@link BoardMetrics}, que se unen por los bordes
+ * entre franjas. Ese tamaño solo fija el grano de las tareas: los conteos no dependen de él.
+ *
+ * Como ni las franjas ni sus flujos dependen del número de hilos, una misma semilla produce el
+ * mismo tablero en paralelo y en secuencial. Las franjas empiezan en un múltiplo de 64 celdas,
+ * así que dos franjas nunca comparten una palabra de {@link BitBoardStorage}.
+ *
+ * Repartir las franjas tiene un coste fijo que en tableros pequeños supera a la ganancia, por
+ * lo que el constructor con el pool común genera en el hilo actual por debajo de
+ * {@link #MIN_PARALLEL_CELLS} celdas.
+ */
+public class ParallelBoardGenerator {
+    public static final int DEFAULT_BAND_CELLS = 1 << 16; // Celdas aproximadas por tarea de conteo.
+    static final int PLACEMENT_BAND_CELLS = 1 << 16; // Celdas aproximadas por franja de colocación (fijo).
+    public static final long MIN_PARALLEL_CELLS = 1L << 22; // Celdas mínimas para usar el pool común.
+
+    @Getter
+    private final long seed; // Semilla del tablero.
+    private final ForkJoinPool pool; // Hilos de trabajo (null para generar en el hilo actual).
+    private final int bandCells; // Celdas aproximadas por tarea de conteo.
+    private final long minParallelCells; // Por debajo de estas celdas se genera en el hilo actual.
+
+    /**
+     * Crea un generador que usa el pool común en tableros de al menos
+     * {@link #MIN_PARALLEL_CELLS} celdas.
+     *
+     * @param seed Semilla del tablero.
+     */
+    public ParallelBoardGenerator(long seed) {
+        this(seed, ForkJoinPool.commonPool(), DEFAULT_BAND_CELLS, MIN_PARALLEL_CELLS);
+    }
+
+    /**
+     * Crea un generador.
+     *
+     * @param seed Semilla del tablero.
+     * @param pool Pool de hilos, o null para generar de forma secuencial.
+     * @param bandCells Celdas aproximadas por tarea al calcular conteos y métricas; no cambia el tablero.
+     */
+    public ParallelBoardGenerator(long seed, ForkJoinPool pool, int bandCells) {
+        this(seed, pool, bandCells, 0);
+    }
+
+    private ParallelBoardGenerator(long seed, ForkJoinPool pool, int bandCells, long minParallelCells) {
+        if (bandCells <= 0) {
+            throw new IllegalArgumentException("Band size must be positive");
+        }
+        this.seed = seed;
+        this.pool = pool;
+        this.bandCells = bandCells;
+        this.minParallelCells = minParallelCells;
+    }
+
+    /**
+     * Coloca las minas y calcula los conteos de minas adyacentes sobre un almacenamiento vacío.
+     * Cada franja mide sus métricas mientras calcula sus conteos y al final se unen por sus bordes.
+     *
+     * @param storage Almacenamiento de celdas sin minas.
+     * @param totalMines Número total de minas.
+     * @return Métricas del tablero generado.
+     */
+    public BoardMetrics generate(ICellStorage storage, int totalMines) {
+        int rows = storage.getRows();
+        int columns = storage.getColumns();
+        int bandRows = bandRows(columns, PLACEMENT_BAND_CELLS);
+        int bands = (rows + bandRows - 1) / bandRows;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        int[] shares = shareMines(root, rows, columns, bandRows, bands, totalMines);
+        SplittableRandom[] streams = new SplittableRandom[bands];
+        for (int band = 0; band < bands; band++) {
+            streams[band] = root.split(); // En orden de franja, independiente de los hilos.
+        }
+
+        boolean parallel = pool != null && (long) rows * columns >= minParallelCells;
+        run(parallel, bands, band -> {
+            int fromRow = band * bandRows;
+            int toRow = Math.min(rows, fromRow + bandRows);
+            SplittableRandom stream = streams[band];
+            new SampledMinePlacer(stream::nextInt)
+                    .placeMinesInStorage(new RowBandStorage(storage, fromRow, toRow), shares[band], null);
+        });
+        SlidingWindowAdjacentMineCalculator calculator = new SlidingWindowAdjacentMineCalculator();
+        int countRows = bandRows(columns, bandCells);
+        int countBands = (rows + countRows - 1) / countRows;
+        BoardMetrics.Accumulator[] metrics = new BoardMetrics.Accumulator[countBands];
+        run(parallel, countBands, band -> {
+            int fromRow = band * countRows;
+            metrics[band] = new BoardMetrics.Accumulator(columns);
+            calculator.calculateAdjacentMinesInRows(storage, fromRow, Math.min(rows, fromRow + countRows), metrics[band]);
+        });
+        return BoardMetrics.combine(metrics);
+    }
+
+    /**
+     * Calcula las filas por franja: las necesarias para unas {@code cells} celdas, redondeadas
+     * para que cada franja empiece en un múltiplo de 64 celdas.
+     */
+    private static int bandRows(int columns, int cells) {
+        int alignment = 64 / gcd(columns, 64);
+        int rows = Math.max(1, cells / columns);
+        return Math.max(alignment, rows / alignment * alignment);
+    }
+
+    /**
+     * Reparte las minas en proporción a las celdas de cada franja y asigna las sobrantes del
+     * redondeo, una por franja, con un Fisher–Yates parcial sobre los índices de franja.
+     */
+    private static int[] shareMines(SplittableRandom random, int rows, int columns, int bandRows, int bands,
+            int totalMines) {
+        long cells = (long) rows * columns;
+        int[] shares = new int[bands];
+        int assigned = 0;
+        for (int band = 0; band < bands; band++) {
+            long bandCells = (long) (Math.min(rows, (band + 1) * bandRows) - band * bandRows) * columns;
+            shares[band] = (int) (bandCells * totalMines / cells);
+            assigned += shares[band];
+        }
+        int[] order = new int[bands];
+        for (int band = 0; band < bands; band++) {
+            order[band] = band;
+        }
+        for (int i = 0; i < totalMines - assigned; i++) {
+            int j = i + random.nextInt(bands - i);
+            int band = order[j];
+            order[j] = order[i];
+            order[i] = band;
+            shares[band]++;
+        }
+        return shares;
+    }
+
+    private void run(boolean parallel, int bands, IntConsumer work) {
+        if (!parallel || bands == 1) {
+            for (int band = 0; band < bands; band++) {
+                work.accept(band);
+            }
+        } else {
+            pool.invoke(new BandTask(0, bands, work));
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Tarea que divide un rango de franjas por la mitad hasta llegar a una sola.
+     */
+    private static final class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final transient IntConsumer work;
+
+        private BandTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                work.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BandTask(from, middle, work), new BandTask(middle, to, work));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.ICellStateListener;
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Vista de una franja de filas consecutivas sobre otro almacenamiento. Permite aplicar una
+ * estrategia de minas a una sola franja del tablero.
+ */
+class RowBandStorage implements ICellStorage {
+    private final ICellStorage target;
+    private final int fromRow; // Primera fila real de la franja.
+    private final int rows; // Filas de la franja.
+
+    /**
+     * @param target Almacenamiento real.
+     * @param fromRow Primera fila de la franja (inclusiva).
+     * @param toRow Última fila de la franja (exclusiva).
+     */
+    RowBandStorage(ICellStorage target, int fromRow, int toRow) {
+        this.target = target;
+        this.fromRow = fromRow;
+        this.rows = toRow - fromRow;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return target.getColumns();
+    }
+
+    @Override
+    public boolean isMine(int row, int col) {
+        return target.isMine(fromRow + row, col);
+    }
+
+    @Override
+    public void setMine(int row, int col, boolean mine) {
+        target.setMine(fromRow + row, col, mine);
+    }
+
+    @Override
+    public boolean isRevealed(int row, int col) {
+        return target.isRevealed(fromRow + row, col);
+    }
+
+    @Override
+    public void setRevealed(int row, int col, boolean revealed) {
+        target.setRevealed(fromRow + row, col, revealed);
+    }
+
+    @Override
+    public boolean isFlagged(int row, int col) {
+        return target.isFlagged(fromRow + row, col);
+    }
+
+    @Override
+    public void setFlagged(int row, int col, boolean flagged) {
+        target.setFlagged(fromRow + row, col, flagged);
+    }
+
+    @Override
+    public int getAdjacentMines(int row, int col) {
+        return target.getAdjacentMines(fromRow + row, col);
+    }
+
+    @Override
+    public void setAdjacentMines(int row, int col, int count) {
+        target.setAdjacentMines(fromRow + row, col, count);
+    }
+
+    @Override
+    public void setStateListener(ICellStateListener listener) {
+        // Los cambios se notifican a través del almacenamiento real.
+    }
+}
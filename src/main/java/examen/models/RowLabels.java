@@ -0,0 +1,77 @@
+package examen.models;
+
+/**
+ * Etiquetas de fila al estilo de una hoja de cálculo: A..Z, AA..AZ, BA.. y así sucesivamente.
+ * Para tableros de hasta 26 filas coinciden con la etiqueta de una sola letra original.
+ */
+public final class RowLabels {
+
+    private RowLabels() {
+    }
+
+    /**
+     * Obtiene la etiqueta de una fila.
+     *
+     * @param row Índice de la fila (desde 0).
+     * @return Etiqueta en letras mayúsculas.
+     */
+    public static String of(int row) {
+        return append(new StringBuilder(), row).toString();
+    }
+
+    /**
+     * Añade la etiqueta de una fila a un búfer sin crear cadenas intermedias.
+     *
+     * @param target Búfer de destino.
+     * @param row Índice de la fila (desde 0).
+     * @return El mismo búfer.
+     */
+    public static StringBuilder append(StringBuilder target, int row) {
+        int start = target.length();
+        long value = row + 1L;
+        while (value > 0) {
+            value--;
+            target.insert(start, (char) ('A' + value % 26));
+            value /= 26;
+        }
+        return target;
+    }
+
+    /**
+     * Calcula el ancho de la etiqueta más larga de un tablero.
+     *
+     * @param rows Número de filas del tablero.
+     * @return Número de letras de la última etiqueta.
+     */
+    public static int width(int rows) {
+        int width = 1;
+        for (long limit = 26; rows > limit; limit = limit * 26 + 26) {
+            width++;
+        }
+        return width;
+    }
+
+    /**
+     * Convierte una etiqueta en el índice de su fila.
+     *
+     * @param label Etiqueta en letras (mayúsculas o minúsculas).
+     * @return Índice de la fila, o -1 si la etiqueta no es válida.
+     */
+    public static int parse(CharSequence label) {
+        if (label.length() == 0) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < label.length(); i++) {
+            char letter = Character.toUpperCase(label.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                return -1;
+            }
+            value = value * 26 + (letter - 'A' + 1);
+            if (value - 1 > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) (value - 1);
+    }
+}
@@ -0,0 +1,100 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.BoardInterfaces.IMineStrategy;
+import examen.models.BoardInterfaces.IRandomSource;
+
+import java.util.Random;
+
+/**
+ * Estrategia de colocación de minas sin rechazo de sorteos.
+ *
+ * En tableros dispersos usa el algoritmo de Floyd, empleando el propio tablero como conjunto
+ * de posiciones elegidas. En tableros densos usa Fisher–Yates parcial sobre los índices de
+ * las celdas. En ambos casos se realizan exactamente {@code totalMines} sorteos, sin importar
+ * la densidad. El tablero debe estar libre de minas antes de la colocación.
+ */
+public class SampledMinePlacer implements IMineStrategy {
+    private final IRandomSource randomSource; // Fuente alternativa de aleatoriedad (null usa la recibida).
+
+    /**
+     * Crea la estrategia usando el {@link Random} que recibe {@link #placeMines}.
+     */
+    public SampledMinePlacer() {
+        this(null);
+    }
+
+    /**
+     * Crea la estrategia con una fuente de aleatoriedad propia, por ejemplo
+     * {@code new SplittableRandom(seed)::nextInt}.
+     *
+     * @param randomSource Fuente de números aleatorios.
+     */
+    public SampledMinePlacer(IRandomSource randomSource) {
+        this.randomSource = randomSource;
+    }
+
+    /**
+     * Coloca las minas en posiciones aleatorias dentro del tablero.
+     *
+     * @param boxes Matriz de casillas del tablero.
+     * @param totalMines Número total de minas a colocar.
+     * @param random Generador de números aleatorios.
+     */
+    @Override
+    public void placeMines(Box[][] boxes, int totalMines, Random random) {
+        placeMinesInStorage(new BoxGridStorage(boxes), totalMines, random);
+    }
+
+    /**
+     * Coloca las minas directamente sobre el almacenamiento de celdas.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     * @param totalMines Número total de minas a colocar.
+     * @param random Generador de números aleatorios.
+     */
+    @Override
+    public void placeMinesInStorage(ICellStorage storage, int totalMines, Random random) {
+        IRandomSource source = randomSource != null ? randomSource : random::nextInt;
+        int columns = storage.getColumns();
+        int cells = storage.getRows() * columns;
+        if (totalMines > cells) {
+            throw new IllegalArgumentException("Invalid number of mines: " + totalMines);
+        }
+
+        if (totalMines <= cells / 2) {
+            placeWithFloyd(storage, totalMines, cells, columns, source);
+        } else {
+            placeWithPartialShuffle(storage, totalMines, cells, columns, source);
+        }
+    }
+
+    /**
+     * Algoritmo de Floyd: para j en [n-k, n) se sortea t en [0, j]; si t ya es mina se usa j.
+     */
+    private void placeWithFloyd(ICellStorage storage, int totalMines, int cells, int columns, IRandomSource source) {
+        for (int j = cells - totalMines; j < cells; j++) {
+            int t = source.nextInt(j + 1);
+            int chosen = storage.isMine(t / columns, t % columns) ? j : t;
+            storage.setMine(chosen / columns, chosen % columns, true);
+        }
+    }
+
+    /**
+     * Fisher–Yates parcial: solo se barajan las primeras {@code totalMines} posiciones.
+     */
+    private void placeWithPartialShuffle(ICellStorage storage, int totalMines, int cells, int columns,
+            IRandomSource source) {
+        int[] indices = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            indices[i] = i;
+        }
+        for (int i = 0; i < totalMines; i++) {
+            int j = i + source.nextInt(cells - i);
+            int chosen = indices[j];
+            indices[j] = indices[i];
+            indices[i] = chosen;
+            storage.setMine(chosen / columns, chosen % columns, true);
+        }
+    }
+}
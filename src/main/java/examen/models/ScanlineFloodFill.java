@@ -0,0 +1,140 @@
+package examen.models;
+
+import java.util.Arrays;
+
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Revelado iterativo de regiones sin minas adyacentes mediante relleno por líneas (scanline).
+ *
+ * Cada semilla de la pila representa un tramo horizontal de casillas en cero todavía ocultas.
+ * Al procesarla se revela el tramo completo, sus bordes numerados y se apilan los tramos de
+ * las filas vecinas. No hay recursión, por lo que no puede desbordar la pila del hilo, y la
+ * pila explícita crece con el número de tramos y no con el número de casillas.
+ */
+public class ScanlineFloodFill {
+    private int[] stack = new int[64]; // Pares (fila, columna) de semillas pendientes.
+    private int size;
+    private BoardDelta delta; // Registro de cambios de la expansión en curso (puede ser null).
+
+    /**
+     * Expande la región a partir de una casilla en cero que ya fue revelada.
+     *
+     * @param cells Almacenamiento de celdas del tablero.
+     * @param row Fila de la casilla inicial.
+     * @param col Columna de la casilla inicial.
+     * @return Número de banderas removidas durante la revelación.
+     */
+    public int fill(ICellStorage cells, int row, int col) {
+        return fill(cells, row, col, null);
+    }
+
+    /**
+     * Expande la región registrando cada casilla revelada en un delta.
+     *
+     * @param cells Almacenamiento de celdas del tablero.
+     * @param row Fila de la casilla inicial.
+     * @param col Columna de la casilla inicial.
+     * @param delta Registro de cambios, o null para no registrar.
+     * @return Número de banderas removidas durante la revelación.
+     */
+    public int fill(ICellStorage cells, int row, int col, BoardDelta delta) {
+        this.delta = delta;
+        size = 0;
+        int flagsRemoved = expandSpan(cells, row, col);
+
+        while (size > 0) {
+            int seedCol = stack[--size];
+            int seedRow = stack[--size];
+            if (cells.isRevealed(seedRow, seedCol)) {
+                continue; // Otro tramo ya cubrió esta semilla.
+            }
+            flagsRemoved += revealCell(cells, seedRow, seedCol);
+            flagsRemoved += expandSpan(cells, seedRow, seedCol);
+        }
+        this.delta = null;
+        return flagsRemoved;
+    }
+
+    /**
+     * Extiende un tramo horizontal desde una casilla en cero revelada y procesa sus vecinos.
+     */
+    private int expandSpan(ICellStorage cells, int row, int col) {
+        int columns = cells.getColumns();
+        int flagsRemoved = 0;
+
+        int left = col;
+        while (left > 0 && isHiddenZero(cells, row, left - 1)) {
+            left--;
+            flagsRemoved += revealCell(cells, row, left);
+        }
+        int right = col;
+        while (right < columns - 1 && isHiddenZero(cells, row, right + 1)) {
+            right++;
+            flagsRemoved += revealCell(cells, row, right);
+        }
+
+        int from = Math.max(0, left - 1);
+        int to = Math.min(columns - 1, right + 1);
+        // Bordes numerados de la propia fila.
+        flagsRemoved += revealBorder(cells, row, from);
+        flagsRemoved += revealBorder(cells, row, to);
+        // Filas superior e inferior: se revelan los números y se apilan los tramos en cero.
+        if (row > 0) {
+            flagsRemoved += scanNeighbourRow(cells, row - 1, from, to);
+        }
+        if (row < cells.getRows() - 1) {
+            flagsRemoved += scanNeighbourRow(cells, row + 1, from, to);
+        }
+        return flagsRemoved;
+    }
+
+    private int scanNeighbourRow(ICellStorage cells, int row, int from, int to) {
+        int flagsRemoved = 0;
+        boolean inZeroRun = false;
+        for (int col = from; col <= to; col++) {
+            if (isHiddenZero(cells, row, col)) {
+                if (!inZeroRun) {
+                    push(row, col); // Una semilla por tramo de ceros ocultos.
+                    inZeroRun = true;
+                }
+            } else {
+                inZeroRun = false;
+                flagsRemoved += revealBorder(cells, row, col);
+            }
+        }
+        return flagsRemoved;
+    }
+
+    private int revealBorder(ICellStorage cells, int row, int col) {
+        if (cells.isRevealed(row, col) || cells.isMine(row, col)) {
+            return 0;
+        }
+        return revealCell(cells, row, col);
+    }
+
+    private static boolean isHiddenZero(ICellStorage cells, int row, int col) {
+        return !cells.isRevealed(row, col) && !cells.isMine(row, col) && cells.getAdjacentMines(row, col) == 0;
+    }
+
+    private int revealCell(ICellStorage cells, int row, int col) {
+        int flagsRemoved = 0;
+        if (cells.isFlagged(row, col)) {
+            cells.setFlagged(row, col, false);
+            flagsRemoved = 1;
+        }
+        cells.setRevealed(row, col, true);
+        if (delta != null) {
+            delta.recordReveal(row, col, flagsRemoved > 0);
+        }
+        return flagsRemoved;
+    }
+
+    private void push(int row, int col) {
+        if (size + 2 > stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[size++] = row;
+        stack[size++] = col;
+    }
+}
@@ -0,0 +1,142 @@
+package examen.models;
+
+import examen.models.BoardInterfaces.IAdjacentMineCalculator;
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Calculador de minas adyacentes en una sola pasada por fila.
+ *
+ * Mantiene una ventana deslizante con la suma vertical de minas (fila anterior, actual
+ * y siguiente) de cada columna, de modo que el conteo de una casilla es la suma de tres
+ * columnas consecutivas. Solo reserva un arreglo de tamaño {@code columns} por llamada.
+ */
+public class SlidingWindowAdjacentMineCalculator implements IAdjacentMineCalculator {
+
+    /**
+     * Calcula el número de minas adyacentes para cada casilla vacía en el tablero.
+     *
+     * @param boxes Matriz de casillas del tablero.
+     */
+    @Override
+    public void calculateAdjacentMines(Box[][] boxes) {
+        int rows = boxes.length;
+        int columns = boxes[0].length;
+        int[] columnSums = new int[columns]; // Minas por columna en la ventana de tres filas.
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                columnSums[col] = mineAt(boxes, row - 1, col) + mineAt(boxes, row, col) + mineAt(boxes, row + 1, col);
+            }
+            int window = columnSums[0] + (columns > 1 ? columnSums[1] : 0);
+            for (int col = 0; col < columns; col++) {
+                Box box = boxes[row][col];
+                if (!(box instanceof MinedBox)) {
+                    ((EmptyBox) box).setAdjacentMines(window); // La casilla no es mina, no se descuenta a sí misma.
+                }
+                // Desliza la ventana una columna a la derecha.
+                if (col > 0) {
+                    window -= columnSums[col - 1];
+                }
+                if (col + 2 < columns) {
+                    window += columnSums[col + 2];
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula el número de minas adyacentes sobre un almacenamiento compacto de celdas.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     */
+    @Override
+    public void calculateAdjacentMinesInStorage(ICellStorage storage) {
+        calculateAdjacentMinesInRows(storage, 0, storage.getRows());
+    }
+
+    /**
+     * Calcula las minas adyacentes y mide las métricas del tablero en la misma pasada: cada fila
+     * se clasifica a medida que se escriben sus conteos.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     * @return Métricas del tablero.
+     */
+    public BoardMetrics calculateAdjacentMinesAndMeasure(ICellStorage storage) {
+        BoardMetrics.Accumulator metrics = new BoardMetrics.Accumulator(storage.getColumns());
+        calculateAdjacentMinesInRows(storage, 0, storage.getRows(), metrics);
+        return BoardMetrics.combine(new BoardMetrics.Accumulator[] { metrics });
+    }
+
+    /**
+     * Calcula las minas adyacentes de una franja de filas. Lee las minas de la fila anterior y
+     * de la siguiente a la franja, pero solo escribe los conteos de sus propias filas, de modo
+     * que franjas distintas pueden calcularse en paralelo.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     * @param fromRow Primera fila de la franja (inclusiva).
+     * @param toRow Última fila de la franja (exclusiva).
+     */
+    public void calculateAdjacentMinesInRows(ICellStorage storage, int fromRow, int toRow) {
+        calculateAdjacentMinesInRows(storage, fromRow, toRow, null);
+    }
+
+    /**
+     * Calcula las minas adyacentes de una franja de filas y, si se indica, entrega cada fila
+     * clasificada a la medida de métricas. Para que la franja se mida sola, también se calculan
+     * (sin escribirlos) los conteos de la fila anterior y de la siguiente como filas de contexto.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     * @param fromRow Primera fila de la franja (inclusiva).
+     * @param toRow Última fila de la franja (exclusiva).
+     * @param metrics Medida de la franja, o null para calcular solo los conteos. Se termina aquí.
+     */
+    void calculateAdjacentMinesInRows(ICellStorage storage, int fromRow, int toRow, BoardMetrics.Accumulator metrics) {
+        int columns = storage.getColumns();
+        int[] columnSums = new int[columns];
+        byte[] classes = metrics != null ? new byte[columns] : null;
+        int first = metrics != null ? Math.max(0, fromRow - 1) : fromRow;
+        int last = metrics != null ? Math.min(storage.getRows(), toRow + 1) : toRow;
+
+        for (int row = first; row < last; row++) {
+            boolean own = row >= fromRow && row < toRow; // Las filas de contexto no se escriben.
+            for (int col = 0; col < columns; col++) {
+                columnSums[col] = mineAt(storage, row - 1, col) + mineAt(storage, row, col)
+                        + mineAt(storage, row + 1, col);
+            }
+            int window = columnSums[0] + (columns > 1 ? columnSums[1] : 0);
+            for (int col = 0; col < columns; col++) {
+                boolean mine = storage.isMine(row, col);
+                if (!mine && own) {
+                    storage.setAdjacentMines(row, col, window);
+                }
+                if (classes != null) {
+                    classes[col] = BoardMetrics.classify(mine, window);
+                }
+                if (col > 0) {
+                    window -= columnSums[col - 1];
+                }
+                if (col + 2 < columns) {
+                    window += columnSums[col + 2];
+                }
+            }
+            if (metrics != null) {
+                if (own) {
+                    metrics.accept(classes);
+                } else {
+                    metrics.context(classes);
+                }
+            }
+        }
+        if (metrics != null) {
+            metrics.finish();
+        }
+    }
+
+    private static int mineAt(Box[][] boxes, int row, int col) {
+        return row >= 0 && row < boxes.length && boxes[row][col] instanceof MinedBox ? 1 : 0;
+    }
+
+    private static int mineAt(ICellStorage storage, int row, int col) {
+        return row >= 0 && row < storage.getRows() && storage.isMine(row, col) ? 1 : 0;
+    }
+}
@@ -1,20 +1,28 @@
 package examen.models;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.io.PrintStream;
 
+import examen.models.BoardInterfaces.ICellStorage;
 import examen.models.GameInterfaces.IBoardRenderer;
 import examen.models.GameInterfaces.IBoxDisplayStrategy;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Renderizador estándar para mostrar el tablero de Minesweeper.
+ *
+ * Cada fotograma se compone en un búfer reutilizado y se emite con una sola escritura. Con la
+ * estrategia predeterminada (exactamente {@link DefaultBoxDisplayStrategy}, no una subclase que
+ * pueda redefinir los símbolos) se leen de una tabla precalculada directamente del
+ * almacenamiento de celdas, sin crear objetos por casilla.
  */
 @RequiredArgsConstructor
 public class StandardBoardRenderer implements IBoardRenderer {
 
     private final IBoxDisplayStrategy displayStrategy; // Estrategia para obtener representaciones de casillas.
+    private final StringBuilder frame = new StringBuilder(); // Búfer reutilizado entre fotogramas.
+    private String columnLabels; // Encabezado de columnas del último fotograma.
+    private int columnLabelsWidth = -1; // Número de columnas del encabezado guardado.
+    private int rowLabelWidth = -1; // Ancho de las etiquetas de fila del encabezado guardado.
 
     /**
      * Imprime el tablero en su estado actual utilizando la estrategia predeterminada.
@@ -23,7 +31,11 @@ public class StandardBoardRenderer implements IBoardRenderer {
      */
     @Override
     public void printBoard(Board board) {
-        printBoardWithStrategy(board, displayStrategy); // Usa la estrategia definida para imprimir.
+        if (displayStrategy.getClass() == DefaultBoxDisplayStrategy.class) {
+            printBoardWithGlyphs(board); // La tabla de símbolos produce el mismo resultado.
+        } else {
+            printBoardWithStrategy(board, displayStrategy); // Usa la estrategia definida para imprimir.
+        }
     }
 
     /**
@@ -36,6 +48,26 @@ public class StandardBoardRenderer implements IBoardRenderer {
         printBoardWithStrategy(board, this::getDetailedBoxRepresentation); // Usa una estrategia detallada.
     }
 
+    /**
+     * Imprime el tablero leyendo los símbolos de la tabla precalculada.
+     *
+     * @param board Tablero a imprimir.
+     */
+    private void printBoardWithGlyphs(Board board) {
+        ICellStorage cells = board.getCells();
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        int labelWidth = beginFrame(rows, columns);
+        for (int row = 0; row < rows; row++) {
+            appendRowLabel(row, labelWidth); // Etiqueta las filas con letras.
+            for (int col = 0; col < columns; col++) {
+                frame.append(' ').append(CellGlyphs.of(cells, row, col));
+            }
+            frame.append('\n');
+        }
+        flushFrame();
+    }
+
     /**
      * Método auxiliar para imprimir el tablero utilizando una estrategia dada.
      *
@@ -43,21 +75,68 @@ public class StandardBoardRenderer implements IBoardRenderer {
      * @param strategy Estrategia para obtener las representaciones de las casillas.
      */
     private void printBoardWithStrategy(Board board, IBoxDisplayStrategy strategy) {
-        // Imprime los encabezados de columnas.
-        String columnLabels = IntStream.range(1, board.getColumns() + 1)
-                .mapToObj(String::valueOf)
-                .collect(Collectors.joining(" ", "  ", "\n"));
-        System.out.print(columnLabels);
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        int labelWidth = beginFrame(rows, columns);
+        Box[][] boxes = board.getBoxes();
+        for (int row = 0; row < rows; row++) {
+            appendRowLabel(row, labelWidth); // Etiqueta las filas con letras.
+            for (Box box : boxes[row]) {
+                frame.append(' ').append(strategy.getRepresentation(box));
+            }
+            frame.append('\n');
+        }
+        flushFrame();
+    }
+
+    /**
+     * Vacía el búfer y escribe el encabezado de columnas, que solo se recalcula si cambia el ancho.
+     *
+     * @param rows Número de filas del tablero.
+     * @param columns Número de columnas del tablero.
+     * @return Ancho de las etiquetas de fila.
+     */
+    private int beginFrame(int rows, int columns) {
+        int labelWidth = RowLabels.width(rows);
+        if (columns != columnLabelsWidth || labelWidth != rowLabelWidth) {
+            StringBuilder labels = new StringBuilder();
+            for (int i = 0; i <= labelWidth; i++) {
+                labels.append(' ');
+            }
+            for (int col = 1; col <= columns; col++) {
+                labels.append(col).append(col < columns ? " " : "");
+            }
+            columnLabels = labels.append('\n').toString();
+            columnLabelsWidth = columns;
+            rowLabelWidth = labelWidth;
+        }
+        frame.setLength(0);
+        frame.ensureCapacity(columnLabels.length() + rows * (2 * columns + labelWidth + 1));
+        frame.append(columnLabels);
+        return labelWidth;
+    }
+
+    /**
+     * Añade la etiqueta de una fila rellenada con espacios hasta el ancho indicado.
+     *
+     * @param row Índice de la fila.
+     * @param labelWidth Ancho de las etiquetas de fila.
+     */
+    private void appendRowLabel(int row, int labelWidth) {
+        int start = frame.length();
+        RowLabels.append(frame, row);
+        for (int i = frame.length() - start; i < labelWidth; i++) {
+            frame.append(' ');
+        }
+    }
 
-        // Imprime las filas del tablero.
-        IntStream.range(0, board.getRows())
-                .mapToObj(row -> {
-                    String rowRepresentation = Arrays.stream(board.getBoxes()[row])
-                            .map(strategy::getRepresentation)
-                            .collect(Collectors.joining(" "));
-                    return String.format("%c %s\n", 'A' + row, rowRepresentation); // Etiqueta las filas con letras.
-                })
-                .forEach(System.out::print);
+    /**
+     * Emite el fotograma completo en una sola escritura.
+     */
+    private void flushFrame() {
+        PrintStream out = System.out;
+        out.append(frame);
+        out.flush();
     }
 
     /**
@@ -68,8 +147,8 @@ public class StandardBoardRenderer implements IBoardRenderer {
      */
     private String getDetailedBoxRepresentation(Box box) {
         if (box.isRevealed()) {
-            return box instanceof MinedBox ? "X" : 
-                String.valueOf(((EmptyBox) box).getAdjacentMinesCount()); // Representa el número de minas adyacentes.
+            return box instanceof MinedBox ? "X" :
+                CellGlyphs.digit(((EmptyBox) box).getAdjacentMinesCount()); // Representa el número de minas adyacentes.
         } else if (box.isFlagged()) {
             return "F"; // Casilla marcada con bandera.
         }
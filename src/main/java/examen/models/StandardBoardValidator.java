@@ -9,7 +9,7 @@ public class StandardBoardValidator implements IBoardValidator {
             throw new IllegalArgumentException("Board dimensions must be positive");
         }
 
-        int maxPossibleMines = rows * columns;
+        long maxPossibleMines = (long) rows * columns; // En int se desborda para tableros grandes.
         if (totalMines < 0 || totalMines > maxPossibleMines) {
             throw new IllegalArgumentException("Invalid number of mines: " + totalMines);
         }
@@ -0,0 +1,148 @@
+package examen.models;
+
+import java.io.PrintStream;
+
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.GameInterfaces.IBoardRenderer;
+import lombok.Getter;
+
+/**
+ * Renderizador que muestra solo una ventana del tablero, para tableros más grandes que la
+ * terminal. El costo de cada fotograma depende del tamaño de la ventana y no del tablero.
+ *
+ * Si el tablero cabe en la ventana, la salida es idéntica a la de {@link StandardBoardRenderer}.
+ * Si no cabe, se añade una línea de estado con el rango visible.
+ */
+public class ViewportBoardRenderer implements IBoardRenderer {
+    @Getter
+    private final int viewRows; // Filas visibles.
+    @Getter
+    private final int viewColumns; // Columnas visibles.
+    @Getter
+    private int topRow; // Primera fila visible.
+    @Getter
+    private int leftColumn; // Primera columna visible.
+    private final StringBuilder frame = new StringBuilder(); // Búfer reutilizado entre fotogramas.
+    private int boardRows = Integer.MAX_VALUE; // Filas del último tablero mostrado.
+    private int boardColumns = Integer.MAX_VALUE; // Columnas del último tablero mostrado.
+
+    /**
+     * Crea un renderizador con una ventana del tamaño indicado.
+     *
+     * @param viewRows Número de filas visibles.
+     * @param viewColumns Número de columnas visibles.
+     */
+    public ViewportBoardRenderer(int viewRows, int viewColumns) {
+        if (viewRows <= 0 || viewColumns <= 0) {
+            throw new IllegalArgumentException("La ventana debe tener al menos una fila y una columna.");
+        }
+        this.viewRows = viewRows;
+        this.viewColumns = viewColumns;
+    }
+
+    /**
+     * Desplaza la ventana sin salir de los límites del último tablero mostrado.
+     *
+     * @param rows Filas a desplazar (negativo hacia arriba).
+     * @param columns Columnas a desplazar (negativo hacia la izquierda).
+     */
+    public void pan(int rows, int columns) {
+        topRow = clamp((long) topRow + rows, boardRows, viewRows);
+        leftColumn = clamp((long) leftColumn + columns, boardColumns, viewColumns);
+    }
+
+    /**
+     * Centra la ventana en una celda.
+     *
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     */
+    public void centerOn(int row, int col) {
+        topRow = clamp((long) row - viewRows / 2, boardRows, viewRows);
+        leftColumn = clamp((long) col - viewColumns / 2, boardColumns, viewColumns);
+    }
+
+    /**
+     * Mueve la ventana lo mínimo necesario para que una celda quede visible.
+     *
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     */
+    public void ensureVisible(int row, int col) {
+        if (row < topRow) {
+            topRow = row;
+        } else if (row >= topRow + viewRows) {
+            topRow = row - viewRows + 1;
+        }
+        if (col < leftColumn) {
+            leftColumn = col;
+        } else if (col >= leftColumn + viewColumns) {
+            leftColumn = col - viewColumns + 1;
+        }
+        pan(0, 0);
+    }
+
+    /**
+     * Imprime la porción visible del tablero.
+     *
+     * @param board Tablero a imprimir.
+     */
+    @Override
+    public void printBoard(Board board) {
+        boardRows = board.getRows();
+        boardColumns = board.getColumns();
+        pan(0, 0); // Ajusta la ventana si el tablero cambió.
+
+        ICellStorage cells = board.getCells();
+        int lastRow = Math.min(boardRows, topRow + viewRows);
+        int lastColumn = Math.min(boardColumns, leftColumn + viewColumns);
+        int labelWidth = RowLabels.width(boardRows); // Fija al desplazar: la de la última fila del tablero.
+
+        frame.setLength(0);
+        for (int i = 0; i <= labelWidth; i++) {
+            frame.append(' ');
+        }
+        for (int col = leftColumn; col < lastColumn; col++) {
+            frame.append(col + 1).append(col + 1 < lastColumn ? " " : "");
+        }
+        frame.append('\n');
+        for (int row = topRow; row < lastRow; row++) {
+            int start = frame.length();
+            RowLabels.append(frame, row); // Etiqueta las filas con letras.
+            for (int i = frame.length() - start; i < labelWidth; i++) {
+                frame.append(' ');
+            }
+            for (int col = leftColumn; col < lastColumn; col++) {
+                frame.append(' ').append(CellGlyphs.of(cells, row, col));
+            }
+            frame.append('\n');
+        }
+        if (boardRows > viewRows || boardColumns > viewColumns) {
+            frame.append("Vista: filas ");
+            RowLabels.append(frame, topRow).append('-');
+            RowLabels.append(frame, lastRow - 1).append(" de ").append(boardRows)
+                    .append(", columnas ").append(leftColumn + 1).append('-').append(lastColumn)
+                    .append(" de ").append(boardColumns)
+                    .append(" (W/A/S/D para desplazar, I para ir a una casilla)\n");
+        }
+
+        PrintStream out = System.out;
+        out.append(frame);
+        out.flush();
+    }
+
+    /**
+     * La vista detallada usa los mismos símbolos que la vista normal.
+     *
+     * @param board Tablero a imprimir.
+     */
+    @Override
+    public void printDetailedBoard(Board board) {
+        printBoard(board);
+    }
+
+    private static int clamp(long start, int size, int window) {
+        long max = Math.max(0, (long) size - window);
+        return (int) Math.max(0, Math.min(start, max));
+    }
+}
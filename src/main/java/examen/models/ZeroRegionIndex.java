@@ -0,0 +1,239 @@
+package examen.models;
+
+import java.util.Arrays;
+
+import examen.models.BoardInterfaces.ICellStorage;
+
+/**
+ * Índice precalculado de las regiones conectadas de casillas en cero y sus bordes numerados.
+ *
+ * Se construye una vez tras generar el tablero con un etiquetado en dos pasadas y unión-búsqueda
+ * (vecindad de 8, la misma que usa la cascada). Cada región guarda en un arreglo compacto sus
+ * casillas en cero y las casillas numeradas que la rodean, de modo que una cascada se reduce a
+ * recorrer esa lista. El índice solo depende de las minas, es inmutable y puede compartirse
+ * entre tableros con la misma disposición de minas.
+ */
+public final class ZeroRegionIndex {
+    private final int columns; // Columnas del tablero.
+    private final int[] labels; // Región de cada casilla en cero, -1 para las demás.
+    private final int[] offsets; // Las celdas de la región r están en cells[offsets[r], offsets[r + 1]).
+    private final int[] cells; // Índices (fila * columnas + columna) de todas las regiones.
+
+    private ZeroRegionIndex(int columns, int[] labels, int[] offsets, int[] cells) {
+        this.columns = columns;
+        this.labels = labels;
+        this.offsets = offsets;
+        this.cells = cells;
+    }
+
+    /**
+     * Construye el índice a partir de un tablero con las minas y los conteos ya calculados.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     * @return Índice de regiones en cero.
+     */
+    public static ZeroRegionIndex build(ICellStorage storage) {
+        int rows = storage.getRows();
+        int columns = storage.getColumns();
+        int[] labels = new int[Math.multiplyExact(rows, columns)];
+        int regionCount = label(storage, labels);
+
+        int[] offsets = new int[regionCount + 1];
+        int[] neighbourRegions = new int[8];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int index = row * columns + col;
+                if (labels[index] >= 0) {
+                    offsets[labels[index] + 1]++;
+                } else if (!storage.isMine(row, col)) {
+                    int found = collectNeighbourRegions(labels, rows, columns, row, col, neighbourRegions);
+                    for (int i = 0; i < found; i++) {
+                        offsets[neighbourRegions[i] + 1]++;
+                    }
+                }
+            }
+        }
+        for (int region = 0; region < regionCount; region++) {
+            offsets[region + 1] += offsets[region];
+        }
+
+        int[] cells = new int[offsets[regionCount]];
+        int[] cursor = Arrays.copyOf(offsets, regionCount);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int index = row * columns + col;
+                if (labels[index] >= 0) {
+                    cells[cursor[labels[index]]++] = index;
+                } else if (!storage.isMine(row, col)) {
+                    int found = collectNeighbourRegions(labels, rows, columns, row, col, neighbourRegions);
+                    for (int i = 0; i < found; i++) {
+                        cells[cursor[neighbourRegions[i]]++] = index;
+                    }
+                }
+            }
+        }
+        return new ZeroRegionIndex(columns, labels, offsets, cells);
+    }
+
+    /**
+     * Obtiene la región de una casilla.
+     *
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Región de la casilla, o -1 si no es una casilla en cero.
+     */
+    public int regionOf(int row, int col) {
+        return labels[row * columns + col];
+    }
+
+    /**
+     * @return Número de regiones en cero del tablero.
+     */
+    public int getRegionCount() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Obtiene el número de casillas que revela una región, incluido su borde numerado.
+     *
+     * @param region Región a consultar.
+     * @return Número de casillas de la región.
+     */
+    public int regionSize(int region) {
+        return offsets[region + 1] - offsets[region];
+    }
+
+    /**
+     * Revela todas las casillas ocultas de una región y su borde, retirando las banderas.
+     *
+     * @param storage Almacenamiento de celdas del tablero.
+     * @param region Región a revelar.
+     * @param delta Registro de cambios, o null para no registrar.
+     * @return Número de banderas removidas.
+     */
+    public int reveal(ICellStorage storage, int region, BoardDelta delta) {
+        int flagsRemoved = 0;
+        for (int i = offsets[region]; i < offsets[region + 1]; i++) {
+            int row = cells[i] / columns;
+            int col = cells[i] % columns;
+            if (storage.isRevealed(row, col)) {
+                continue;
+            }
+            boolean unflagged = storage.isFlagged(row, col);
+            if (unflagged) {
+                storage.setFlagged(row, col, false);
+                flagsRemoved++;
+            }
+            storage.setRevealed(row, col, true);
+            if (delta != null) {
+                delta.recordReveal(row, col, unflagged);
+            }
+        }
+        return flagsRemoved;
+    }
+
+    /**
+     * Etiqueta las casillas en cero con dos pasadas: la primera asigna etiquetas provisionales
+     * uniendo con los vecinos ya visitados, la segunda las reemplaza por regiones consecutivas.
+     *
+     * @return Número de regiones.
+     */
+    private static int label(ICellStorage storage, int[] labels) {
+        int rows = storage.getRows();
+        int columns = storage.getColumns();
+        int[] parent = new int[64];
+        int provisional = 0;
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                int index = row * columns + col;
+                if (storage.isMine(row, col) || storage.getAdjacentMines(row, col) != 0) {
+                    labels[index] = -1;
+                    continue;
+                }
+                int label = -1;
+                if (col > 0) {
+                    label = merge(parent, label, labels[index - 1]);
+                }
+                if (row > 0) {
+                    int above = index - columns;
+                    if (col > 0) {
+                        label = merge(parent, label, labels[above - 1]);
+                    }
+                    label = merge(parent, label, labels[above]);
+                    if (col < columns - 1) {
+                        label = merge(parent, label, labels[above + 1]);
+                    }
+                }
+                if (label < 0) {
+                    if (provisional == parent.length) {
+                        parent = Arrays.copyOf(parent, parent.length * 2);
+                    }
+                    parent[provisional] = provisional;
+                    label = provisional++;
+                }
+                labels[index] = label;
+            }
+        }
+
+        int[] region = new int[provisional];
+        Arrays.fill(region, -1);
+        int regionCount = 0;
+        for (int index = 0; index < labels.length; index++) {
+            if (labels[index] >= 0) {
+                int root = find(parent, labels[index]);
+                if (region[root] < 0) {
+                    region[root] = regionCount++;
+                }
+                labels[index] = region[root];
+            }
+        }
+        return regionCount;
+    }
+
+    private static int merge(int[] parent, int label, int neighbour) {
+        if (neighbour < 0) {
+            return label;
+        }
+        int root = find(parent, neighbour);
+        if (label < 0 || label == root) {
+            return root;
+        }
+        int low = Math.min(label, root);
+        parent[Math.max(label, root)] = low;
+        return low;
+    }
+
+    private static int find(int[] parent, int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]]; // Compresión por división a la mitad.
+            label = parent[label];
+        }
+        return label;
+    }
+
+    /**
+     * Reúne las regiones distintas que tocan una casilla numerada.
+     *
+     * @return Número de regiones encontradas (como máximo 4 en la práctica).
+     */
+    private static int collectNeighbourRegions(int[] labels, int rows, int columns, int row, int col, int[] out) {
+        int found = 0;
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                int region = labels[r * columns + c];
+                if (region < 0) {
+                    continue;
+                }
+                boolean seen = false;
+                for (int i = 0; i < found && !seen; i++) {
+                    seen = out[i] == region;
+                }
+                if (!seen) {
+                    out[found++] = region;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,348 @@
+package examen.repositories;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.Game;
+import examen.models.Player;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Persistencia del estado del juego en un formato binario versionado.
+ *
+ * Estructura del archivo (little-endian):
+ * <pre>
+ * magic "MSWB" | versión (short) | opciones (short) | filas | columnas | minas (int)
+ * longitud del nombre (short) | nombre UTF-8
+ * plano de minas, o bien semilla (long) | protección del primer clic (byte: 0 ninguna,
+ *     1 minas diferidas, 2 minas trasladadas) | casilla protegida (int)
+ * plano de reveladas | plano de banderas (se omiten si la partida está sin tocar)
+ * CRC32 de todo lo anterior (long, solo si la opción de checksum está activa)
+ * </pre>
+ * Los planos son long[] de ceil(celdas/64) palabras. Los tableros con semilla no guardan sus
+ * minas, sino la semilla con la que se regeneran, así que una partida nueva ocupa unas decenas
+ * de bytes. Los conteos de minas adyacentes no se guardan: se recalculan al cargar.
+ * La partida cargada usa almacenamiento {@link BitBoardStorage}, de modo que los planos se
+ * copian en bloque.
+ */
+public class BinaryGameStateManager implements GamePersistenceInterface {
+    private static final String GAME_STATE_FILEPATH = "src/main/resources/files/minesweeper_state.bin";
+    static final int MAGIC = 0x4257534D; // "MSWB" en little-endian.
+    static final short VERSION = 1;
+    static final short OPTION_CHECKSUM = 1;
+    static final short OPTION_SEEDED = 2; // Semilla en lugar del plano de minas.
+    static final short OPTION_UNTOUCHED = 4; // Sin planos de reveladas ni de banderas.
+
+    private final Path filePath;
+    private final boolean checksum;
+
+    /**
+     * Crea el gestor con la ruta por defecto y checksum activado.
+     */
+    public BinaryGameStateManager() {
+        this(Paths.get(GAME_STATE_FILEPATH), true);
+    }
+
+    /**
+     * Crea el gestor para una ruta específica.
+     *
+     * @param filePath Ruta del archivo de estado.
+     * @param checksum True para escribir y verificar un CRC32 al final del archivo.
+     */
+    public BinaryGameStateManager(Path filePath, boolean checksum) {
+        this.filePath = filePath;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Guarda el estado del juego en formato binario.
+     *
+     * @param game Estado actual del juego.
+     */
+    @Override
+    public void saveGameState(Game game) {
+        saveSnapshot(game);
+    }
+
+    /**
+     * Guarda el estado del juego e informa de su checksum, que identifica la instantánea escrita.
+     *
+     * @param game Estado actual del juego.
+     * @return CRC32 del archivo escrito, o -1 si no se escribió o no lleva checksum.
+     */
+    long saveSnapshot(Game game) {
+        ByteBuffer buffer = encode(game, checksum);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            System.err.println("**** Error al guardar el estado del juego: ****" + e.getMessage());
+            return -1;
+        }
+        return checksum ? buffer.getLong(buffer.limit() - 8) : -1;
+    }
+
+    /**
+     * Lee el checksum del archivo guardado sin decodificarlo.
+     *
+     * @return CRC32 guardado al final del archivo, o -1 si no hay archivo o no lleva checksum.
+     */
+    long storedChecksum() {
+        if (!checksum || !Files.exists(filePath)) {
+            return -1;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer tail = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.size() < 8) {
+                return -1;
+            }
+            while (tail.hasRemaining() && channel.read(tail, channel.size() - tail.remaining()) >= 0) {
+                // Lectura de los últimos 8 bytes.
+            }
+            return tail.getLong(0);
+        } catch (IOException e) {
+            System.err.println("**** Error al leer el estado del juego: ****" + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Carga el estado del juego desde el archivo binario.
+     *
+     * @return Resultado de carga del juego, o null si no hay estado válido guardado.
+     */
+    @Override
+    public IGameLoadResult loadGameState() {
+        if (!Files.exists(filePath)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Lectura completa del archivo.
+            }
+            buffer.flip();
+            Game game = decode(buffer);
+            if (game == null) {
+                return null;
+            }
+            return new IGameLoadResult() {
+                @Override
+                public Game getGame() {
+                    return game;
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            System.err.println("**** Error al cargar el estado del juego: ****" + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Elimina el estado del juego guardado.
+     */
+    @Override
+    public void clearGameState() {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            System.err.println("**** Error al eliminar el estado del juego: ****" + e.getMessage());
+        }
+    }
+
+    /**
+     * Codifica una partida en un buffer listo para escribirse.
+     *
+     * @param game Partida a codificar.
+     * @param withChecksum True para añadir el CRC32 final.
+     * @return Buffer posicionado al inicio de los datos.
+     */
+    static ByteBuffer encode(Game game, boolean withChecksum) {
+        Board board = game.getBoard();
+        byte[] name = game.getPlayer().getName().getBytes(StandardCharsets.UTF_8);
+        int words = planeWords(board.getRows(), board.getColumns());
+        ICellStorage cells = board.getCells();
+        long[] revealed;
+        long[] flags;
+        if (cells instanceof BitBoardStorage) {
+            revealed = ((BitBoardStorage) cells).getRevealedPlane();
+            flags = ((BitBoardStorage) cells).getFlagPlane();
+        } else {
+            revealed = packPlane(cells, 1, words);
+            flags = packPlane(cells, 2, words);
+        }
+        boolean seeded = board.getSeed() != null;
+        boolean untouched = isEmpty(revealed) && isEmpty(flags);
+        short options = (short) ((withChecksum ? OPTION_CHECKSUM : 0) | (seeded ? OPTION_SEEDED : 0)
+                | (untouched ? OPTION_UNTOUCHED : 0));
+
+        int size = 4 + 2 + 2 + 4 * 3 + 2 + name.length + (seeded ? 8 + 1 + 4 : words * 8)
+                + (untouched ? 0 : words * 8 * 2) + (withChecksum ? 8 : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort(options);
+        buffer.putInt(board.getRows());
+        buffer.putInt(board.getColumns());
+        buffer.putInt(board.getTotalMines());
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+
+        if (seeded) {
+            buffer.putLong(board.getSeed());
+            buffer.put((byte) (board.isDeferredGeneration() ? 1 : board.isFirstClickRelocation() ? 2 : 0));
+            buffer.putInt(board.getSafeCell());
+        } else if (cells instanceof BitBoardStorage) {
+            putPlane(buffer, ((BitBoardStorage) cells).getMinePlane());
+        } else {
+            putPlane(buffer, packPlane(cells, 0, words));
+        }
+        if (!untouched) {
+            putPlane(buffer, revealed);
+            putPlane(buffer, flags);
+        }
+
+        if (withChecksum) {
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.putLong(crc.getValue());
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodifica una partida desde un buffer en formato binario.
+     *
+     * @param buffer Buffer little-endian con el contenido completo del archivo.
+     * @return Partida reconstruida, o null si el formato no es reconocido o el checksum no coincide.
+     */
+    static Game decode(ByteBuffer buffer) {
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+            return null;
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            System.err.println("**** Versión de archivo no soportada: ****" + version);
+            return null;
+        }
+        short options = buffer.getShort();
+        boolean withChecksum = (options & OPTION_CHECKSUM) != 0;
+        if (withChecksum) {
+            int dataLength = buffer.limit() - 8;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), 0, dataLength);
+            if (crc.getValue() != buffer.getLong(dataLength)) {
+                System.err.println("**** El archivo de estado está corrupto (checksum inválido). ****");
+                return null;
+            }
+        }
+
+        int rows = buffer.getInt();
+        int columns = buffer.getInt();
+        int totalMines = buffer.getInt();
+        byte[] name = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(name);
+
+        Board board;
+        if ((options & OPTION_SEEDED) != 0) {
+            long seed = buffer.getLong();
+            byte firstClick = buffer.get(); // 1: minas diferidas, 2: minas trasladadas en el primer clic.
+            int safeCell = buffer.getInt();
+            board = Board.builder()
+                    .rows(rows)
+                    .columns(columns)
+                    .totalMines(totalMines)
+                    .storageFactory(BitBoardStorage::new)
+                    .seed(seed)
+                    .deferredGeneration(firstClick == 1)
+                    .firstClickRelocation(firstClick == 2)
+                    .build();
+            board.generateBoard(); // Regenera las minas y sus conteos a partir de la semilla.
+            if (safeCell >= 0) {
+                board.commitDeferredMines(safeCell / columns, safeCell % columns);
+            }
+        } else {
+            board = Board.builder()
+                    .rows(rows)
+                    .columns(columns)
+                    .totalMines(totalMines)
+                    .storageFactory(BitBoardStorage::new)
+                    .build();
+            board.initializeEmptyBoard();
+            getPlane(buffer, ((BitBoardStorage) board.getStorage()).getMinePlane());
+            board.getAdjacentMineCalculator().calculateAdjacentMinesInStorage(board.getStorage());
+        }
+        BitBoardStorage bits = (BitBoardStorage) board.getStorage();
+        if ((options & OPTION_UNTOUCHED) == 0) {
+            getPlane(buffer, bits.getRevealedPlane());
+            getPlane(buffer, bits.getFlagPlane());
+        }
+        board.rebuildCounters();
+        if ((options & OPTION_SEEDED) == 0) {
+            board.restoreDeferredGeneration();
+        }
+
+        Player player = Player.builder().name(new String(name, StandardCharsets.UTF_8)).build();
+        return Game.builder().board(board).player(player).build();
+    }
+
+    private static boolean isEmpty(long[] plane) {
+        for (long word : plane) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int planeWords(int rows, int columns) {
+        return (int) (((long) rows * columns + 63) >>> 6);
+    }
+
+    private static void putPlane(ByteBuffer buffer, long[] plane) {
+        buffer.asLongBuffer().put(plane);
+        buffer.position(buffer.position() + plane.length * 8);
+    }
+
+    private static void getPlane(ByteBuffer buffer, long[] plane) {
+        buffer.asLongBuffer().get(plane);
+        buffer.position(buffer.position() + plane.length * 8);
+    }
+
+    /**
+     * Empaqueta un plano de bits a partir de celdas que no están en formato compacto.
+     *
+     * @param cells Celdas del tablero.
+     * @param plane 0 para minas, 1 para reveladas, 2 para banderas.
+     * @param words Número de palabras del plano.
+     * @return Plano de bits.
+     */
+    private static long[] packPlane(ICellStorage cells, int plane, int words) {
+        long[] bits = new long[words];
+        int columns = cells.getColumns();
+        int index = 0;
+        for (int row = 0; row < cells.getRows(); row++) {
+            for (int col = 0; col < columns; col++, index++) {
+                boolean set = plane == 0 ? cells.isMine(row, col)
+                        : plane == 1 ? cells.isRevealed(row, col) : cells.isFlagged(row, col);
+                if (set) {
+                    bits[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+        return bits;
+    }
+}
@@ -33,8 +33,28 @@ public interface GamePersistenceInterface {
      */
     void saveGameState(Game game);
 
+    /**
+     * Registra una jugada sobre una celda. El tipo de jugada se deduce del estado final
+     * de la celda (revelada, marcada o desmarcada). Por defecto guarda el estado completo;
+     * las implementaciones incrementales pueden registrar solo la jugada.
+     *
+     * @param game El objeto Game con el estado posterior a la jugada.
+     * @param row Fila de la celda afectada.
+     * @param col Columna de la celda afectada.
+     */
+    default void saveMove(Game game, int row, int col) {
+        saveGameState(game);
+    }
+
     /**
      * Borra el estado del juego de la fuente persistente.
      */
     void clearGameState();
+
+    /**
+     * Espera a que todas las operaciones pendientes lleguen a la fuente persistente.
+     * Las implementaciones síncronas no necesitan hacer nada.
+     */
+    default void flush() {
+    }
 }
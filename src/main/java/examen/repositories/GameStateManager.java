@@ -30,6 +30,7 @@ public class GameStateManager {
             writer.writeNext(new String[] { "Columns", String.valueOf(board.getColumns()) });
             writer.writeNext(new String[] { "TotalMines", String.valueOf(board.getTotalMines()) });
             writer.writeNext(new String[] { "FlagCount", String.valueOf(board.getFlagCount()) });
+            writer.writeNext(new String[] { "FirstClickRelocation", String.valueOf(board.isFirstClickRelocation()) });
 
             // Guardar ubicaciones de minas
             List<String[]> mineLocations = new ArrayList<>();
@@ -39,7 +40,7 @@ public class GameStateManager {
                 for (int col = 0; col < boxes[row].length; col++) {
                     if (boxes[row][col].isMine()) {
                         mineLocations.add(new String[] {
-                                String.valueOf((char) ('A' + row)),
+                                RowLabels.of(row),
                                 String.valueOf(col + 1)
                         });
                     }
@@ -58,7 +59,7 @@ public class GameStateManager {
 
             for (int row = 0; row < boxes.length; row++) {
                 String[] rowData = new String[boxes[row].length + 1];
-                rowData[0] = String.valueOf((char) ('A' + row));
+                rowData[0] = RowLabels.of(row);
 
                 for (int col = 0; col < boxes[row].length; col++) {
                     Box box = boxes[row][col];
@@ -95,22 +96,26 @@ public class GameStateManager {
             int columns = Integer.parseInt(savedState.get(2)[1]);
             int totalMines = Integer.parseInt(savedState.get(3)[1]);
             int flagCount = Integer.parseInt(savedState.get(4)[1]);
+            // Fila opcional: los archivos anteriores pasan directamente a las minas.
+            boolean relocation = "FirstClickRelocation".equals(savedState.get(5)[0]);
+            boolean firstClickRelocation = relocation && Boolean.parseBoolean(savedState.get(5)[1]);
 
             // Crear y configurar el tablero
             Board board = Board.builder()
                     .rows(rows)
                     .columns(columns)
                     .totalMines(totalMines)
+                    .firstClickRelocation(firstClickRelocation)
                     .build();
             board.initializeEmptyBoard();
 
             // Restaurar ubicaciones de minas
-            int minesStartIndex = 6; // Después de los metadatos y el encabezado "MineLocation"
+            int minesStartIndex = relocation ? 7 : 6; // Después de los metadatos y el encabezado "MineLocation"
             int mineCount = 0;
             while (mineCount < totalMines && minesStartIndex + mineCount < savedState.size()) {
                 String[] mineLocation = savedState.get(minesStartIndex + mineCount);
                 if (mineLocation.length == 2) {
-                    int row = mineLocation[0].charAt(0) - 'A';
+                    int row = RowLabels.parse(mineLocation[0]);
                     int col = Integer.parseInt(mineLocation[1]) - 1;
 
                     MinedBox minedBox = new MinedBox();
@@ -126,7 +131,7 @@ public class GameStateManager {
             int boardStateStartIndex = minesStartIndex + mineCount + 1;
             for (int i = boardStateStartIndex; i < savedState.size(); i++) {
                 String[] rowData = savedState.get(i);
-                int boardRow = rowData[0].charAt(0) - 'A';
+                int boardRow = RowLabels.parse(rowData[0]);
 
                 for (int col = 1; col < rowData.length; col++) {
                     int boardCol = col - 1;
@@ -142,10 +147,7 @@ public class GameStateManager {
                             box.setYPosition(boardCol);
                             board.getBoxes()[boardRow][boardCol] = box;
                         }
-                        case "F" -> {
-                            box.setFlagged(true);
-                            board.increaseFlagCount();
-                        }
+                        case "F" -> box.setFlagged(true);
                         case "?" -> {
                             /* No revelado */ }
                         default -> {
@@ -167,6 +169,8 @@ public class GameStateManager {
 
             // Asegurar que las minas adyacentes sean calculadas
             board.getAdjacentMineCalculator().calculateAdjacentMines(board.getBoxes());
+            board.rebuildCounters(); // Recalcula banderas y casillas ocultas en una pasada.
+            board.restoreDeferredGeneration(); // Una partida guardada antes del primer clic sigue protegida.
 
             Player player = Player.builder().name(playerName).build();
             Game game = Game.builder().board(board).player(player).build();
@@ -0,0 +1,227 @@
+package examen.repositories;
+
+import examen.models.Board;
+import examen.models.Box;
+import examen.models.Game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Persistencia con instantánea binaria más un diario de jugadas de solo anexado.
+ *
+ * Cada jugada se agrega al diario como un registro de tamaño fijo ({@value #RECORD_SIZE} bytes:
+ * tipo, fila y columna), por lo que su coste no depende del tamaño del tablero. Cada
+ * {@code snapshotInterval} jugadas se escribe una instantánea completa con el formato de
+ * {@link BinaryGameStateManager} y se compacta el diario. Al cargar se lee la última
+ * instantánea y se reproducen los registros del diario.
+ *
+ * El diario empieza con una cabecera ({@value #HEADER_SIZE} bytes: magic y CRC32 de la
+ * instantánea sobre la que se escribió). Si el proceso se interrumpe entre la escritura de una
+ * instantánea y la compactación del diario, la cabecera ya no coincide con la instantánea y el
+ * diario, cuyas jugadas ya están en ella, se descarta.
+ */
+public class JournaledGameStateManager implements GamePersistenceInterface {
+    private static final String SNAPSHOT_FILEPATH = "src/main/resources/files/minesweeper_state.bin";
+    private static final String JOURNAL_FILEPATH = "src/main/resources/files/minesweeper_state.journal";
+    static final int JOURNAL_MAGIC = 0x4A57534D; // "MSWJ" en little-endian.
+    static final int HEADER_SIZE = 12;
+    static final int RECORD_SIZE = 9;
+    static final byte RECORD_REVEAL = 1;
+    static final byte RECORD_FLAG = 2;
+    static final byte RECORD_UNFLAG = 3;
+
+    private final BinaryGameStateManager snapshots;
+    private final Path journalPath;
+    private final int snapshotInterval;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private FileChannel journal; // Canal abierto en modo anexado, se reutiliza entre jugadas.
+    private int movesSinceSnapshot;
+
+    /**
+     * Crea el gestor con las rutas por defecto y una instantánea cada 256 jugadas.
+     */
+    public JournaledGameStateManager() {
+        this(Paths.get(SNAPSHOT_FILEPATH), Paths.get(JOURNAL_FILEPATH), 256);
+    }
+
+    /**
+     * Crea el gestor para rutas específicas.
+     *
+     * @param snapshotPath Ruta de la instantánea binaria.
+     * @param journalPath Ruta del diario de jugadas.
+     * @param snapshotInterval Número de jugadas entre instantáneas completas.
+     */
+    public JournaledGameStateManager(Path snapshotPath, Path journalPath, int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshots = new BinaryGameStateManager(snapshotPath, true);
+        this.journalPath = journalPath;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Escribe una instantánea completa y compacta el diario.
+     *
+     * @param game Estado actual del juego.
+     */
+    @Override
+    public void saveGameState(Game game) {
+        long snapshot = snapshots.saveSnapshot(game);
+        try {
+            resetJournal(snapshot);
+        } catch (IOException e) {
+            System.err.println("**** Error al compactar el diario de jugadas: ****" + e.getMessage());
+        }
+        movesSinceSnapshot = 0;
+    }
+
+    /**
+     * Agrega un registro de tamaño fijo al diario y, si corresponde, escribe una instantánea.
+     *
+     * @param game Estado del juego posterior a la jugada.
+     * @param row Fila de la celda afectada.
+     * @param col Columna de la celda afectada.
+     */
+    @Override
+    public void saveMove(Game game, int row, int col) {
+        if (movesSinceSnapshot + 1 >= snapshotInterval) {
+            saveGameState(game);
+            return;
+        }
+        Box box = game.getBoard().getBox(row, col);
+        byte type = box.isRevealed() ? RECORD_REVEAL : box.isFlagged() ? RECORD_FLAG : RECORD_UNFLAG;
+        record.clear();
+        record.put(type).putInt(row).putInt(col).flip();
+        try {
+            FileChannel channel = openJournal();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            movesSinceSnapshot++;
+        } catch (IOException e) {
+            System.err.println("**** Error al registrar la jugada: ****" + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga la última instantánea y reproduce el diario sobre ella.
+     *
+     * @return Resultado de carga del juego, o null si no hay instantánea válida.
+     */
+    @Override
+    public IGameLoadResult loadGameState() {
+        IGameLoadResult snapshot = snapshots.loadGameState();
+        if (snapshot == null) {
+            return null;
+        }
+        Board board = snapshot.getGame().getBoard();
+        long expected = snapshots.storedChecksum();
+        movesSinceSnapshot = 0;
+        boolean current = false;
+        if (Files.exists(journalPath)) {
+            closeJournal(); // El canal de anexado podría apuntar a un diario anterior.
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Lectura completa del diario.
+                }
+                buffer.flip();
+                current = buffer.remaining() >= HEADER_SIZE && buffer.getInt() == JOURNAL_MAGIC
+                        && buffer.getLong() == expected;
+                while (current && buffer.remaining() >= RECORD_SIZE) { // Un registro incompleto al final se descarta.
+                    replay(board, buffer.get(), buffer.getInt(), buffer.getInt());
+                    movesSinceSnapshot++;
+                }
+            } catch (IOException e) {
+                System.err.println("**** Error al leer el diario de jugadas: ****" + e.getMessage());
+            }
+        }
+        if (!current) {
+            try {
+                resetJournal(expected); // Las jugadas nuevas no deben quedar detrás de un diario ajeno.
+            } catch (IOException e) {
+                System.err.println("**** Error al compactar el diario de jugadas: ****" + e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Elimina la instantánea y el diario.
+     */
+    @Override
+    public void clearGameState() {
+        closeJournal();
+        snapshots.clearGameState();
+        try {
+            Files.deleteIfExists(journalPath);
+        } catch (IOException e) {
+            System.err.println("**** Error al eliminar el diario de jugadas: ****" + e.getMessage());
+        }
+        movesSinceSnapshot = 0;
+    }
+
+    /**
+     * Cierra el canal del diario si está abierto.
+     */
+    public void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("**** Error al cerrar el diario de jugadas: ****" + e.getMessage());
+        }
+        journal = null;
+    }
+
+    private void replay(Board board, byte type, int row, int col) {
+        if (!board.isValidPosition(row, col)) {
+            return;
+        }
+        if (type != RECORD_REVEAL && board.getBox(row, col).isRevealed()) {
+            return; // Una casilla revelada no admite banderas.
+        }
+        switch (type) {
+            case RECORD_REVEAL -> board.revealAdjacent(row, col);
+            case RECORD_FLAG -> board.getBox(row, col).setFlagged(true);
+            case RECORD_UNFLAG -> board.getBox(row, col).setFlagged(false);
+            default -> System.err.println("**** Registro de diario desconocido: ****" + type);
+        }
+    }
+
+    /**
+     * Vacía el diario y escribe la cabecera de la instantánea indicada.
+     *
+     * @param snapshot CRC32 de la instantánea actual.
+     */
+    private void resetJournal(long snapshot) throws IOException {
+        FileChannel channel = openJournal();
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(JOURNAL_MAGIC).putLong(snapshot).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journal == null || !journal.isOpen()) {
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            if (journal.size() == 0) {
+                resetJournal(snapshots.storedChecksum()); // Diario nuevo sobre la instantánea existente.
+            }
+        }
+        return journal;
+    }
+}
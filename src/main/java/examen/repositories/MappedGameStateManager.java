@@ -0,0 +1,201 @@
+package examen.repositories;
+
+import examen.models.Board;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.BoardInterfaces.ICellStorageFactory;
+import examen.models.Game;
+import examen.models.MappedCellStorage;
+import examen.models.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Persistencia sobre un tablero proyectado en memoria.
+ *
+ * Los tableros creados con {@link #storageFactory()} guardan sus celdas directamente en el
+ * archivo de estado mediante {@link MappedCellStorage}, así que guardar la partida se reduce a
+ * escribir la cabecera y forzar las páginas modificadas al disco. Si la partida usa otro
+ * almacenamiento, el primer guardado lo copia al archivo y el tablero pasa a usar la copia
+ * proyectada, de modo que los guardados siguientes tampoco copian celdas.
+ *
+ * Cabecera (little-endian, {@value #HEADER_SIZE} bytes):
+ * <pre>
+ * magic "MSWM" | versión (short) | opciones (short) | filas | columnas | minas (int)
+ * longitud del nombre (short) | nombre UTF-8 (relleno con ceros)
+ * </pre>
+ * Los planos de celdas siguen a la cabecera con el formato de {@link MappedCellStorage}. La
+ * opción {@value #OPTION_FIRST_CLICK_RELOCATION} marca los tableros creados con
+ * {@code firstClickRelocation}, para volver a proteger el primer clic al cargarlos.
+ */
+public class MappedGameStateManager implements GamePersistenceInterface {
+    private static final String GAME_STATE_FILEPATH = "src/main/resources/files/minesweeper_state.map";
+    static final int MAGIC = 0x4D57534D; // "MSWM" en little-endian.
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 256; // Mantiene los planos alineados a 8 bytes.
+    static final short OPTION_FIRST_CLICK_RELOCATION = 1;
+    private static final int NAME_OFFSET = 22;
+
+    private final Path filePath;
+    private MappedCellStorage current; // Almacenamiento proyectado sobre el archivo actual.
+
+    /**
+     * Crea el gestor con la ruta por defecto.
+     */
+    public MappedGameStateManager() {
+        this(Paths.get(GAME_STATE_FILEPATH));
+    }
+
+    /**
+     * Crea el gestor para una ruta específica.
+     *
+     * @param filePath Ruta del archivo de estado.
+     */
+    public MappedGameStateManager(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Obtiene una fábrica que crea el almacenamiento de los tableros nuevos sobre el archivo
+     * de estado, reemplazando la partida guardada anterior.
+     *
+     * @return Fábrica de almacenamiento proyectado.
+     */
+    public ICellStorageFactory storageFactory() {
+        return (rows, columns) -> {
+            current = MappedCellStorage.create(filePath, rows, columns, HEADER_SIZE);
+            return current;
+        };
+    }
+
+    /**
+     * Guarda el estado del juego. Si el tablero ya vive en el archivo, solo se escribe la
+     * cabecera y se fuerzan las páginas modificadas; si no, se copia y el tablero pasa a usar
+     * el almacenamiento proyectado.
+     *
+     * @param game Estado actual del juego.
+     */
+    @Override
+    public void saveGameState(Game game) {
+        Board board = game.getBoard();
+        try {
+            if (current == null || board.getStorage() != current) {
+                current = copyToFile(board.getCells());
+                board.setStorage(current); // Solo se copia una vez: desde ahora el tablero vive en el archivo.
+                board.setBoxes(null);
+                board.rebuildCounters();
+            }
+            writeHeader(current.getHeader(), board, game.getPlayer());
+            current.force();
+        } catch (UncheckedIOException e) {
+            System.err.println("**** Error al guardar el estado del juego: ****" + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga el estado del juego proyectando el archivo en memoria.
+     *
+     * @return Resultado de carga del juego, o null si no hay estado válido guardado.
+     */
+    @Override
+    public IGameLoadResult loadGameState() {
+        if (!Files.exists(filePath)) {
+            return null;
+        }
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                while (header.hasRemaining() && channel.read(header) >= 0) {
+                    // Lectura completa de la cabecera.
+                }
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION) {
+                return null;
+            }
+            short options = header.getShort();
+            int rows = header.getInt();
+            int columns = header.getInt();
+            int totalMines = header.getInt();
+            byte[] name = new byte[header.getShort()];
+            header.get(name);
+
+            MappedCellStorage storage = MappedCellStorage.open(filePath, rows, columns, HEADER_SIZE);
+            Board board = Board.builder()
+                    .rows(rows)
+                    .columns(columns)
+                    .totalMines(totalMines)
+                    .storage(storage)
+                    .storageFactory(storageFactory())
+                    .firstClickRelocation((options & OPTION_FIRST_CLICK_RELOCATION) != 0)
+                    .build();
+            board.rebuildCounters();
+            board.restoreDeferredGeneration();
+            current = storage;
+
+            Player player = Player.builder().name(new String(name, StandardCharsets.UTF_8)).build();
+            Game game = Game.builder().board(board).player(player).build();
+            return new IGameLoadResult() {
+                @Override
+                public Game getGame() {
+                    return game;
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            System.err.println("**** Error al cargar el estado del juego: ****" + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Elimina el estado del juego guardado. Una proyección abierta sigue siendo válida, pero el
+     * siguiente guardado crea un archivo nuevo.
+     */
+    @Override
+    public void clearGameState() {
+        current = null;
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            System.err.println("**** Error al eliminar el estado del juego: ****" + e.getMessage());
+        }
+    }
+
+    /**
+     * Copia las celdas de un tablero a un archivo proyectado nuevo.
+     */
+    private MappedCellStorage copyToFile(ICellStorage cells) {
+        MappedCellStorage storage = MappedCellStorage.create(filePath, cells.getRows(), cells.getColumns(), HEADER_SIZE);
+        for (int row = 0; row < cells.getRows(); row++) {
+            for (int col = 0; col < cells.getColumns(); col++) {
+                storage.setMine(row, col, cells.isMine(row, col));
+                storage.setRevealed(row, col, cells.isRevealed(row, col));
+                storage.setFlagged(row, col, cells.isFlagged(row, col));
+                storage.setAdjacentMines(row, col, cells.getAdjacentMines(row, col));
+            }
+        }
+        return storage;
+    }
+
+    private static void writeHeader(ByteBuffer header, Board board, Player player) {
+        byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+        int nameLength = Math.min(name.length, HEADER_SIZE - NAME_OFFSET);
+        header.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort(board.isFirstClickRelocation() ? OPTION_FIRST_CLICK_RELOCATION : 0)
+                .putInt(board.getRows())
+                .putInt(board.getColumns())
+                .putInt(board.getTotalMines())
+                .putShort((short) nameLength)
+                .put(name, 0, nameLength);
+        header.put(new byte[HEADER_SIZE - NAME_OFFSET - nameLength]); // Borra restos de un nombre anterior.
+    }
+}
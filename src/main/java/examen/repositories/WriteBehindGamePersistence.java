@@ -0,0 +1,155 @@
+package examen.repositories;
+
+import examen.models.Game;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decorador de persistencia con escritura diferida en un hilo de fondo.
+ *
+ * Cada guardado toma una instantánea del juego ({@link examen.models.Board#snapshot()}) en el
+ * hilo que llama y la entrega a un único hilo escritor. Si llegan varios guardados dentro de la
+ * ventana configurada, solo se escribe el último. Borrar el estado también es una operación
+ * diferida y reemplaza a cualquier guardado pendiente, por lo que el resultado en disco es el
+ * mismo que con el gestor decorado usado de forma síncrona.
+ *
+ * Las jugadas individuales se convierten en guardados completos, así que el gestor decorado
+ * debe escribir el estado completo (no un diario incremental).
+ *
+ * La agrupación ahorra escrituras, no copias: la instantánea es O(celdas) y se toma en el hilo
+ * que llama en cada guardado, porque el juego no bloquea sus celdas y copiar más tarde en el
+ * hilo escritor podría leer una jugada a medias. Con {@link examen.models.BitBoardStorage} la
+ * copia son unos pocos arraycopy de planos de bits; con la matriz de casillas recorre cada una.
+ */
+public class WriteBehindGamePersistence implements GamePersistenceInterface {
+    private final GamePersistenceInterface delegate;
+    private final long coalesceWindowMillis;
+    private final ScheduledExecutorService writer;
+    private final AtomicReference<Runnable> pending = new AtomicReference<>(); // Última operación sin escribir.
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Thread shutdownHook = new Thread(this::flush, "game-state-flush"); // Se retira en close().
+
+    /**
+     * Crea el decorador con una ventana de agrupación de 50 ms.
+     *
+     * @param delegate Gestor de persistencia que realiza la escritura real.
+     */
+    public WriteBehindGamePersistence(GamePersistenceInterface delegate) {
+        this(delegate, 50);
+    }
+
+    /**
+     * Crea el decorador.
+     *
+     * @param delegate Gestor de persistencia que realiza la escritura real.
+     * @param coalesceWindowMillis Tiempo que espera el escritor para agrupar guardados consecutivos.
+     */
+    public WriteBehindGamePersistence(GamePersistenceInterface delegate, long coalesceWindowMillis) {
+        this.delegate = delegate;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-state-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Carga el estado, esperando antes a que se escriban las operaciones pendientes.
+     *
+     * @return Resultado de la carga del gestor decorado.
+     */
+    @Override
+    public IGameLoadResult loadGameState() {
+        flush();
+        return delegate.loadGameState();
+    }
+
+    /**
+     * Programa el guardado de una instantánea del juego. La copia se hace aquí, en el hilo que
+     * llama, con un coste proporcional al número de celdas.
+     *
+     * @param game Estado actual del juego.
+     */
+    @Override
+    public void saveGameState(Game game) {
+        Game snapshot = Game.builder()
+                .board(game.getBoard().snapshot())
+                .player(game.getPlayer())
+                .build();
+        submit(() -> delegate.saveGameState(snapshot));
+    }
+
+    /**
+     * Programa el guardado completo tras una jugada.
+     *
+     * @param game Estado del juego posterior a la jugada.
+     * @param row Fila de la celda afectada.
+     * @param col Columna de la celda afectada.
+     */
+    @Override
+    public void saveMove(Game game, int row, int col) {
+        saveGameState(game);
+    }
+
+    /**
+     * Programa el borrado del estado guardado, descartando guardados pendientes.
+     */
+    @Override
+    public void clearGameState() {
+        submit(delegate::clearGameState);
+    }
+
+    /**
+     * Escribe de inmediato la operación pendiente y espera a que termine.
+     */
+    @Override
+    public void flush() {
+        if (writer.isShutdown()) {
+            drain();
+            return;
+        }
+        try {
+            writer.submit(this::drain).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("**** Error al escribir el estado del juego: ****" + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Escribe lo pendiente, detiene el hilo escritor y retira el gancho de cierre, de modo que
+     * la instancia deja de estar referenciada por la JVM.
+     */
+    public void close() {
+        flush();
+        writer.shutdown();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // La JVM ya se está cerrando y el gancho está en marcha.
+        }
+    }
+
+    private void submit(Runnable operation) {
+        pending.set(operation);
+        if (drainScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::drain, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        Runnable operation = pending.getAndSet(null);
+        if (operation != null) {
+            operation.run();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package examen.simulation;
+
+import java.util.SplittableRandom;
+
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.simulation.SimulationInterfaces.IBotPolicy;
+
+/**
+ * Revela casillas ocultas al azar. Sirve de referencia para medir el rendimiento del motor sin
+ * el costo de razonar sobre el tablero.
+ */
+public class RandomBotPolicy implements IBotPolicy {
+    private static final int ATTEMPTS = 16; // Intentos al azar antes de buscar de forma lineal.
+
+    private ICellStorage cells;
+    private SplittableRandom random;
+
+    @Override
+    public void startGame(Board board, SplittableRandom random) {
+        this.cells = board.getCells();
+        this.random = random;
+    }
+
+    @Override
+    public int nextMove(BoardDelta lastMove) {
+        int columns = cells.getColumns();
+        int size = cells.getRows() * columns;
+        int index = random.nextInt(size);
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            if (!cells.isRevealed(index / columns, index % columns)) {
+                return index;
+            }
+            index = random.nextInt(size);
+        }
+        for (int i = 0; i < size; i++) {
+            int candidate = (index + i) % size;
+            if (!cells.isRevealed(candidate / columns, candidate % columns)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,45 @@
+package examen.simulation;
+
+import java.util.SplittableRandom;
+
+import examen.models.Board;
+import examen.models.BoardDelta;
+
+/**
+ * Contiene las interfaces de la simulación de partidas sin interfaz de usuario.
+ */
+public interface SimulationInterfaces {
+
+    /**
+     * Define cómo juega un jugador automático. Cada hilo de la simulación usa su propia instancia,
+     * por lo que no necesita ser segura entre hilos.
+     */
+    interface IBotPolicy {
+        /**
+         * Prepara la política para una partida nueva, antes del primer clic.
+         *
+         * @param board Tablero generado y sin revelar.
+         * @param random Flujo aleatorio del hilo de trabajo.
+         */
+        void startGame(Board board, SplittableRandom random);
+
+        /**
+         * Elige la siguiente casilla a revelar.
+         *
+         * @param lastMove Celdas modificadas por la jugada anterior, o null antes del primer clic.
+         * @return Índice {@code fila * columnas + columna}, o -1 para abandonar la partida.
+         */
+        int nextMove(BoardDelta lastMove);
+    }
+
+    /**
+     * Define la creación de una política por hilo de trabajo.
+     */
+    @FunctionalInterface
+    interface IBotPolicyFactory {
+        /**
+         * @return Política nueva, de uso exclusivo de un hilo.
+         */
+        IBotPolicy create();
+    }
+}
@@ -0,0 +1,39 @@
+package examen.simulation;
+
+import lombok.Value;
+
+/**
+ * Totales de una simulación de partidas sobre una combinación de filas, columnas y minas.
+ */
+@Value
+public class SimulationResult {
+    int rows;
+    int columns;
+    int totalMines;
+    long games; // Partidas jugadas.
+    long wins; // Partidas ganadas.
+    long reveals; // Jugadas de revelado, incluido el primer clic.
+    long revealedCells; // Casillas reveladas por todas las jugadas, cascadas incluidas.
+    long elapsedNanos; // Tiempo total de la simulación.
+
+    /**
+     * @return Proporción de partidas ganadas (0 si no se jugó ninguna).
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * @return Partidas jugadas por segundo.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return Casillas reveladas por jugada, en promedio.
+     */
+    public double getAverageCascadeSize() {
+        return reveals == 0 ? 0 : (double) revealedCells / reveals;
+    }
+}
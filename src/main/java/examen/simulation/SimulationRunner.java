@@ -0,0 +1,217 @@
+package examen.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.BoardInterfaces.ICellStorageFactory;
+import examen.simulation.SimulationInterfaces.IBotPolicy;
+import examen.simulation.SimulationInterfaces.IBotPolicyFactory;
+
+/**
+ * Juega partidas sin interfaz de usuario sobre un {@link ForkJoinPool} para medir la tasa de
+ * victorias de una política y el rendimiento del motor.
+ *
+ * Cada partida genera un tablero como los del juego (minas colocadas de antemano que el primer
+ * clic aparta de su zona) con {@link Board#generateBoard()} y lo juega con {@link Board#revealAdjacent(int, int, BoardDelta)}.
+ * El rango de partidas se divide por la mitad hasta lotes de {@link #BATCH_GAMES}; cada lote
+ * tiene su propia política y su propio flujo de {@link SplittableRandom}, dividido del flujo
+ * raíz según la posición del lote, así que una misma semilla da los mismos totales con
+ * cualquier paralelismo. Cada lote suma sus totales a contadores {@link LongAdder} al terminar.
+ */
+public class SimulationRunner {
+    public static final int BATCH_GAMES = 64; // Partidas por lote de un hilo.
+
+    private final int rows;
+    private final int columns;
+    private final int totalMines;
+    private final IBotPolicyFactory policies; // Crea una política por lote.
+    private final ICellStorageFactory storageFactory; // Almacenamiento de los tableros (null para Box[][]).
+    private final ForkJoinPool pool; // Hilos de trabajo.
+
+    /**
+     * Crea un simulador.
+     *
+     * @param rows Número de filas.
+     * @param columns Número de columnas.
+     * @param totalMines Número total de minas.
+     * @param policies Fábrica de políticas.
+     * @param storageFactory Fábrica de almacenamiento, o null para la matriz de casillas.
+     * @param pool Pool de hilos de trabajo.
+     */
+    public SimulationRunner(int rows, int columns, int totalMines, IBotPolicyFactory policies,
+            ICellStorageFactory storageFactory, ForkJoinPool pool) {
+        this.rows = rows;
+        this.columns = columns;
+        this.totalMines = totalMines;
+        this.policies = policies;
+        this.storageFactory = storageFactory;
+        this.pool = pool;
+    }
+
+    /**
+     * Juega un número de partidas.
+     *
+     * @param games Número de partidas.
+     * @param seed Semilla raíz.
+     * @return Totales de la simulación.
+     */
+    public SimulationResult run(long games, long seed) {
+        Totals totals = new Totals();
+        long start = System.nanoTime();
+        pool.invoke(new GameRangeTask(0, games, new SplittableRandom(seed), totals));
+        long elapsed = System.nanoTime() - start;
+        return new SimulationResult(rows, columns, totalMines, totals.games.sum(), totals.wins.sum(),
+                totals.reveals.sum(), totals.revealedCells.sum(), elapsed);
+    }
+
+    /**
+     * Ejecuta simulaciones desde la línea de comandos. Opciones con formato {@code --nombre=valor}:
+     * <ul>
+     * <li>{@code games}: partidas por combinación (100000 por defecto).</li>
+     * <li>{@code presets}: combinaciones {@code FILASxCOLUMNASxMINAS} separadas por comas (los
+     * tres niveles clásicos por defecto).</li>
+     * <li>{@code policy}: {@code probability} (por defecto), {@code solver} o {@code random}.</li>
+     * <li>{@code parallelism}: hilos de trabajo (los procesadores disponibles por defecto).</li>
+     * <li>{@code storage}: {@code bitboard} (por defecto) o {@code grid}.</li>
+     * <li>{@code seed}: semilla raíz (aleatoria por defecto).</li>
+     * </ul>
+     *
+     * @param args Opciones.
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Opción no válida: " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        long games = Long.parseLong(options.getOrDefault("games", "100000"));
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(new SplittableRandom().nextLong())));
+        IBotPolicyFactory policies = policyFactory(options.getOrDefault("policy", "probability"));
+        ICellStorageFactory storage = "grid".equals(options.get("storage")) ? null : BitBoardStorage::new;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            System.out.printf("Semilla %d, %d hilos%n", seed, parallelism);
+            for (String preset : options.getOrDefault("presets", "9x9x10,16x16x40,16x30x99").split(",")) {
+                String[] parts = preset.split("x");
+                SimulationResult result = new SimulationRunner(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]), policies, storage, pool).run(games, seed);
+                System.out.printf("%-10s %,d partidas  %.2f%% victorias  %,.0f partidas/s  cascada media %.2f%n",
+                        preset, result.getGames(), result.getWinRate() * 100, result.getGamesPerSecond(),
+                        result.getAverageCascadeSize());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static IBotPolicyFactory policyFactory(String name) {
+        switch (name) {
+            case "random":
+                return RandomBotPolicy::new;
+            case "solver":
+                return () -> new SolverBotPolicy(false);
+            case "probability":
+                return () -> new SolverBotPolicy(true);
+            default:
+                throw new IllegalArgumentException("Política desconocida: " + name);
+        }
+    }
+
+    /**
+     * Juega una partida y suma sus jugadas al lote.
+     *
+     * @return True si la partida se ganó.
+     */
+    private boolean playGame(IBotPolicy policy, SplittableRandom random, long[] batch) {
+        Board board = Board.builder().rows(rows).columns(columns).totalMines(totalMines)
+                .seed(random.nextLong()).firstClickRelocation(true).storageFactory(storageFactory).build();
+        board.generateBoard();
+        ICellStorage cells = board.getCells();
+        policy.startGame(board, random);
+        BoardDelta delta = null;
+        while (true) {
+            int index = policy.nextMove(delta);
+            if (index < 0) {
+                return false; // La política abandona.
+            }
+            int row = index / columns;
+            int col = index % columns;
+            board.commitDeferredMines(row, col); // Igual que en la partida: el primer clic aparta las minas.
+            if (cells.isMine(row, col)) {
+                return false;
+            }
+            delta = new BoardDelta(columns);
+            board.revealAdjacent(row, col, delta);
+            batch[0]++;
+            batch[1] += delta.getRevealedCount();
+            if (board.getHiddenSafeCount() == 0) {
+                return true;
+            }
+            if (delta.getRevealedCount() == 0) {
+                return false; // La política eligió una casilla ya revelada.
+            }
+        }
+    }
+
+    /**
+     * Contadores de una simulación, con celdas repartidas para que los hilos no compitan.
+     */
+    private static final class Totals {
+        private final LongAdder games = new LongAdder();
+        private final LongAdder wins = new LongAdder();
+        private final LongAdder reveals = new LongAdder();
+        private final LongAdder revealedCells = new LongAdder();
+    }
+
+    /**
+     * Tarea que divide un rango de partidas por la mitad hasta llegar a un lote.
+     */
+    private final class GameRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long from;
+        private final long to;
+        private final transient SplittableRandom random;
+        private final transient Totals totals;
+
+        private GameRangeTask(long from, long to, SplittableRandom random, Totals totals) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.totals = totals;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_GAMES) {
+                IBotPolicy policy = policies.create();
+                long[] batch = new long[2]; // Jugadas y casillas reveladas del lote.
+                long wins = 0;
+                for (long game = from; game < to; game++) {
+                    wins += playGame(policy, random, batch) ? 1 : 0;
+                }
+                totals.games.add(to - from);
+                totals.wins.add(wins);
+                totals.reveals.add(batch[0]);
+                totals.revealedCells.add(batch[1]);
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new GameRangeTask(from, middle, random.split(), totals),
+                    new GameRangeTask(middle, to, random, totals));
+        }
+    }
+}
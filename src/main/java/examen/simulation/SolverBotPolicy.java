@@ -0,0 +1,65 @@
+package examen.simulation;
+
+import java.util.SplittableRandom;
+
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.simulation.SimulationInterfaces.IBotPolicy;
+import examen.solver.DeterministicSolver;
+import examen.solver.ProbabilityEngine;
+
+/**
+ * Juega como un jugador experto: empieza por el centro, revela las casillas que
+ * {@link DeterministicSolver} deduce seguras y, cuando no queda ninguna, adivina. Con
+ * probabilidades la casilla adivinada es la más segura según {@link ProbabilityEngine}; sin
+ * ellas, una casilla oculta al azar.
+ */
+public class SolverBotPolicy implements IBotPolicy {
+    private final boolean useProbabilities; // True para adivinar con el motor de probabilidades.
+    private final RandomBotPolicy fallback = new RandomBotPolicy();
+    private Board board;
+    private DeterministicSolver solver;
+    private ProbabilityEngine engine;
+
+    /**
+     * Crea una política.
+     *
+     * @param useProbabilities True para adivinar la casilla con menor probabilidad de mina.
+     */
+    public SolverBotPolicy(boolean useProbabilities) {
+        this.useProbabilities = useProbabilities;
+    }
+
+    @Override
+    public void startGame(Board board, SplittableRandom random) {
+        this.board = board;
+        this.solver = null;
+        this.engine = null;
+        fallback.startGame(board, random);
+    }
+
+    @Override
+    public int nextMove(BoardDelta lastMove) {
+        if (lastMove == null) {
+            return board.getRows() / 2 * board.getColumns() + board.getColumns() / 2;
+        }
+        if (solver == null) {
+            solver = new DeterministicSolver(board); // Tras el primer clic, con las minas ya colocadas.
+        } else {
+            solver.update(lastMove);
+        }
+        solver.solve();
+        int safe = solver.pollSafe();
+        if (safe >= 0) {
+            return safe;
+        }
+        if (!useProbabilities) {
+            return fallback.nextMove(lastMove);
+        }
+        if (engine == null) {
+            engine = new ProbabilityEngine(board);
+        }
+        engine.compute();
+        return engine.safestHiddenCell();
+    }
+}
@@ -0,0 +1,358 @@
+package examen.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cuenta las configuraciones de minas de un componente de la frontera, por número de minas y
+ * por casilla.
+ *
+ * Los componentes pequeños se recorren por vuelta atrás. En los grandes, el número de
+ * soluciones crece de forma exponencial, así que la vuelta atrás se memoriza por perfil: al
+ * decidir las casillas en orden, solo importan las minas ya asignadas a los números que siguen
+ * abiertos (con casillas decididas y sin decidir). Una pasada hacia delante cuenta las
+ * asignaciones parciales por perfil y una hacia atrás las completa, de modo que el costo depende
+ * del número de perfiles y no del de soluciones.
+ */
+final class ComponentEnumerator {
+    private static final int BACKTRACK_CELLS = 16; // Componentes hasta este tamaño se recorren sin memoria.
+
+    private final int cellCount;
+    private final int constraintCount;
+    private final int[] cells; // Índices de las casillas, en orden de decisión.
+    private final int[][] cellConstraints; // Restricciones de cada casilla.
+    private final int[][] remainingAfter; // Casillas de cada restricción de la casilla que quedan después de ella.
+    private final int[] value; // Minas que exige cada restricción.
+    private final int[] size; // Casillas de cada restricción.
+    private final int[] last; // Posición de la última casilla de cada restricción.
+
+    /**
+     * Configuraciones de un componente: peso por número de minas y, por casilla, peso de las
+     * configuraciones en que tiene mina. Los pesos están escalados por el mayor de ellos.
+     */
+    static final class Result {
+        final int[] cells; // Índices de las casillas del componente.
+        final double[] weights; // Configuraciones con k minas.
+        final double[] cellMines; // [posición * (casillas + 1) + k] configuraciones con mina en la casilla.
+
+        private Result(int[] cells, double[] weights, double[] cellMines) {
+            this.cells = cells;
+            this.weights = weights;
+            this.cellMines = cellMines;
+        }
+    }
+
+    /**
+     * Prepara un componente a partir de sus restricciones.
+     *
+     * @param data Por cada número: índice, valor, cantidad de vecinas ocultas y sus índices.
+     */
+    ComponentEnumerator(int[] data) {
+        Map<Integer, Integer> found = new HashMap<>();
+        int[] discovered = new int[data.length];
+        int cellsSeen = 0;
+        int constraints = 0;
+        for (int i = 0; i < data.length; i += 3 + data[i + 2]) {
+            constraints++;
+            for (int j = 0; j < data[i + 2]; j++) {
+                int cell = data[i + 3 + j];
+                if (!found.containsKey(cell)) {
+                    found.put(cell, cellsSeen);
+                    discovered[cellsSeen++] = cell;
+                }
+            }
+        }
+        this.cellCount = cellsSeen;
+        this.constraintCount = constraints;
+        this.value = new int[constraints];
+        this.size = new int[constraints];
+        this.last = new int[constraints];
+        int[][] constraintCells = new int[constraints][];
+        int[][] byCell = new int[cellsSeen][8];
+        int[] perCell = new int[cellsSeen];
+        int constraint = 0;
+        for (int i = 0; i < data.length; i += 3 + data[i + 2], constraint++) {
+            value[constraint] = data[i + 1];
+            size[constraint] = data[i + 2];
+            constraintCells[constraint] = new int[data[i + 2]];
+            for (int j = 0; j < data[i + 2]; j++) {
+                int cell = found.get(data[i + 3 + j]);
+                constraintCells[constraint][j] = cell;
+                byCell[cell][perCell[cell]++] = constraint;
+            }
+        }
+
+        // Un recorrido en anchura desde un extremo del componente mantiene pocos números abiertos.
+        int[] order = breadthFirst(breadthFirst(0, byCell, perCell, constraintCells)[cellsSeen - 1], byCell,
+                perCell, constraintCells);
+        int[] position = new int[cellsSeen];
+        this.cells = new int[cellsSeen];
+        this.cellConstraints = new int[cellsSeen][];
+        for (int pos = 0; pos < cellsSeen; pos++) {
+            position[order[pos]] = pos;
+            cells[pos] = discovered[order[pos]];
+            cellConstraints[pos] = Arrays.copyOf(byCell[order[pos]], perCell[order[pos]]);
+        }
+        for (int c = 0; c < constraints; c++) {
+            for (int cell : constraintCells[c]) {
+                last[c] = Math.max(last[c], position[cell]);
+            }
+        }
+        this.remainingAfter = new int[cellsSeen][];
+        int[] seen = new int[constraints];
+        for (int pos = 0; pos < cellsSeen; pos++) {
+            remainingAfter[pos] = new int[cellConstraints[pos].length];
+            for (int j = 0; j < cellConstraints[pos].length; j++) {
+                int c = cellConstraints[pos][j];
+                remainingAfter[pos][j] = size[c] - ++seen[c];
+            }
+        }
+    }
+
+    /**
+     * Recorre en anchura las casillas del componente; dos casillas son vecinas si comparten un
+     * número.
+     *
+     * @return Casillas en orden de visita.
+     */
+    private static int[] breadthFirst(int start, int[][] byCell, int[] perCell, int[][] constraintCells) {
+        int[] order = new int[byCell.length];
+        boolean[] visited = new boolean[byCell.length];
+        int size = 0;
+        order[size++] = start;
+        visited[start] = true;
+        for (int head = 0; head < size; head++) {
+            int cell = order[head];
+            for (int j = 0; j < perCell[cell]; j++) {
+                for (int other : constraintCells[byCell[cell][j]]) {
+                    if (!visited[other]) {
+                        visited[other] = true;
+                        order[size++] = other;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Cuenta todas las configuraciones que cumplen las restricciones.
+     *
+     * @return Configuraciones del componente.
+     */
+    Result enumerate() {
+        double[] weights = new double[cellCount + 1];
+        double[] cellMines = new double[cellCount * (cellCount + 1)];
+        if (cellCount > BACKTRACK_CELLS) {
+            countByProfile(assignSlots(), weights, cellMines);
+        } else {
+            new Backtracking(weights, cellMines).search(0, 0);
+        }
+        double max = 0;
+        for (double weight : weights) {
+            max = Math.max(max, weight);
+        }
+        if (max > 0) {
+            for (int k = 0; k < weights.length; k++) {
+                weights[k] /= max;
+            }
+            for (int i = 0; i < cellMines.length; i++) {
+                cellMines[i] /= max;
+            }
+        }
+        return new Result(cells, weights, cellMines);
+    }
+
+    /**
+     * Asigna a cada restricción un hueco de 4 bits del perfil mientras está abierta, reutilizando
+     * los huecos de las que ya se cerraron.
+     *
+     * @return Hueco de cada restricción.
+     */
+    private int[] assignSlots() {
+        int[] slot = new int[constraintCount];
+        Arrays.fill(slot, -1);
+        boolean[] used = new boolean[constraintCount];
+        for (int pos = 0; pos < cellCount; pos++) {
+            for (int c : cellConstraints[pos]) {
+                if (slot[c] < 0) {
+                    int free = 0;
+                    while (used[free]) {
+                        free++;
+                    }
+                    used[free] = true;
+                    slot[c] = free;
+                }
+            }
+            for (int c : cellConstraints[pos]) {
+                if (last[c] == pos) {
+                    used[slot[c]] = false;
+                }
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Aplica la decisión de la casilla {@code pos} a un perfil.
+     *
+     * @return Perfil resultante, o null si alguna restricción deja de poder cumplirse.
+     */
+    private Profile transition(Profile profile, int pos, int mine, int[] slot) {
+        long[] words = profile.words.clone();
+        int[] constraints = cellConstraints[pos];
+        for (int j = 0; j < constraints.length; j++) {
+            int c = constraints[j];
+            int word = slot[c] >>> 4;
+            int shift = (slot[c] & 15) * 4;
+            int assigned = (int) (words[word] >>> shift & 0xF) + mine;
+            if (assigned > value[c] || assigned + remainingAfter[pos][j] < value[c]) {
+                return null;
+            }
+            words[word] &= ~(0xFL << shift);
+            if (last[c] != pos) {
+                words[word] |= (long) assigned << shift;
+            }
+        }
+        return new Profile(words);
+    }
+
+    /**
+     * Cuenta por perfiles: hacia delante las asignaciones parciales de cada perfil y hacia atrás
+     * sus completaciones, combinando ambas para obtener los pesos por casilla.
+     */
+    private void countByProfile(int[] slot, double[] weights, double[] cellMines) {
+        int slots = 0;
+        for (int s : slot) {
+            slots = Math.max(slots, s + 1);
+        }
+        Profile empty = new Profile(new long[(slots + 15) / 16]);
+        List<Map<Profile, double[]>> forward = new ArrayList<>(cellCount + 1);
+        forward.add(new HashMap<>());
+        forward.get(0).put(empty, new double[] { 1 });
+        for (int pos = 0; pos < cellCount; pos++) {
+            Map<Profile, double[]> next = new HashMap<>();
+            int length = pos + 2;
+            for (Map.Entry<Profile, double[]> entry : forward.get(pos).entrySet()) {
+                for (int mine = 0; mine <= 1; mine++) {
+                    Profile profile = transition(entry.getKey(), pos, mine, slot);
+                    if (profile != null) {
+                        double[] target = next.computeIfAbsent(profile, key -> new double[length]);
+                        double[] source = entry.getValue();
+                        for (int k = 0; k < source.length; k++) {
+                            target[k + mine] += source[k];
+                        }
+                    }
+                }
+            }
+            forward.add(next);
+        }
+
+        Map<Profile, double[]> backward = new HashMap<>();
+        backward.put(empty, new double[] { 1 });
+        int stride = cellCount + 1;
+        for (int pos = cellCount - 1; pos >= 0; pos--) {
+            Map<Profile, double[]> current = new HashMap<>();
+            int length = cellCount - pos + 1;
+            for (Map.Entry<Profile, double[]> entry : forward.get(pos).entrySet()) {
+                double[] completions = new double[length];
+                double[] partial = entry.getValue();
+                for (int mine = 0; mine <= 1; mine++) {
+                    Profile profile = transition(entry.getKey(), pos, mine, slot);
+                    double[] rest = profile != null ? backward.get(profile) : null;
+                    if (rest == null) {
+                        continue;
+                    }
+                    for (int k = 0; k < rest.length; k++) {
+                        completions[k + mine] += rest[k];
+                    }
+                    if (mine == 1) {
+                        for (int a = 0; a < partial.length; a++) {
+                            for (int b = 0; b < rest.length; b++) {
+                                cellMines[pos * stride + a + b + 1] += partial[a] * rest[b];
+                            }
+                        }
+                    }
+                }
+                current.put(entry.getKey(), completions);
+            }
+            backward = current;
+            forward.set(pos + 1, null); // Libera los perfiles ya combinados.
+        }
+        double[] total = backward.get(empty);
+        System.arraycopy(total, 0, weights, 0, total.length);
+    }
+
+    /**
+     * Minas asignadas a los números abiertos, 4 bits por número, comparadas por contenido.
+     */
+    private static final class Profile {
+        private final long[] words;
+        private final int hash;
+
+        private Profile(long[] words) {
+            this.words = words;
+            this.hash = Arrays.hashCode(words);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Profile && Arrays.equals(words, ((Profile) other).words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Vuelta atrás sin memoria, con arreglos primitivos, para componentes pequeños.
+     */
+    private final class Backtracking {
+        private final int[] assigned = new int[constraintCount]; // Minas asignadas a cada restricción.
+        private final boolean[] mine = new boolean[cellCount]; // Asignación actual.
+        private final double[] weights;
+        private final double[] cellMines;
+
+        private Backtracking(double[] weights, double[] cellMines) {
+            this.weights = weights;
+            this.cellMines = cellMines;
+        }
+
+        private void search(int pos, int mines) {
+            if (pos == cellCount) {
+                weights[mines]++;
+                for (int i = 0; i < cellCount; i++) {
+                    if (mine[i]) {
+                        cellMines[i * (cellCount + 1) + mines]++;
+                    }
+                }
+                return;
+            }
+            int[] constraints = cellConstraints[pos];
+            for (int m = 0; m <= 1; m++) {
+                boolean feasible = true;
+                for (int j = 0; j < constraints.length; j++) {
+                    int c = constraints[j];
+                    int count = assigned[c] + m;
+                    feasible &= count <= value[c] && count + remainingAfter[pos][j] >= value[c];
+                }
+                if (feasible) {
+                    for (int c : constraints) {
+                        assigned[c] += m;
+                    }
+                    mine[pos] = m == 1;
+                    search(pos + 1, mines + m);
+                    mine[pos] = false;
+                    for (int c : constraints) {
+                        assigned[c] -= m;
+                    }
+                }
+            }
+        }
+    }
+}
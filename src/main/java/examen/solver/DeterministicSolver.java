@@ -0,0 +1,333 @@
+package examen.solver;
+
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.BoardInterfaces.ICellStorage;
+import lombok.Getter;
+
+/**
+ * Solucionador determinista que razona solo con la información visible para el jugador: los
+ * números de las casillas reveladas y, opcionalmente, las banderas.
+ *
+ * Aplica dos reglas sobre la frontera (casillas numeradas con vecinas ocultas sin resolver):
+ * <ul>
+ * <li>Punto único: si a un número le faltan 0 minas, sus vecinas desconocidas son seguras; si
+ * le faltan tantas como vecinas desconocidas tiene, todas son minas.</li>
+ * <li>Subconjuntos (patrones 1-2-1, 1-1 en borde, etc.): para dos números cercanos A y B, si
+ * las desconocidas de A están contenidas en las de B y les faltan las mismas minas, el resto de
+ * B es seguro; si a B le faltan tantas minas más que A como casillas propias tiene, esas son
+ * minas y las propias de A son seguras.</li>
+ * </ul>
+ *
+ * El trabajo es incremental: solo se vuelven a evaluar los números vecinos de las casillas que
+ * cambiaron, con una cola de índices sobre arreglos primitivos. Las deducciones seguras quedan
+ * disponibles con {@link #pollSafe()}; el solucionador nunca revela casillas por sí mismo.
+ */
+public class DeterministicSolver {
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1; // Revelada o deducida segura.
+    private static final byte MINE = 2; // Deducida mina (o bandera si se confía en ellas).
+
+    private final ICellStorage cells;
+    private final int rows;
+    private final int columns;
+    private final boolean trustFlags; // True para tratar las banderas del jugador como minas.
+    private final byte[] knowledge; // Estado conocido de cada celda.
+    private final int[] queue; // Cola circular de números pendientes de evaluar.
+    private final boolean[] queued; // Números presentes en la cola.
+    private int queueHead;
+    private int queueSize;
+    private final int[] safeStack; // Casillas deducidas seguras aún no entregadas.
+    private int safeCount;
+    private final int[] unknownA = new int[8]; // Vecinas desconocidas del primer número evaluado.
+    private final int[] unknownB = new int[8]; // Vecinas desconocidas del segundo número evaluado.
+    private int collectedMissing; // Minas que faltan al último número reunido.
+    @Getter
+    private long deductions; // Casillas resueltas desde la creación.
+    @Getter
+    private int knownMineCount; // Minas deducidas.
+
+    /**
+     * Crea un solucionador para un tablero que no confía en las banderas del jugador.
+     *
+     * @param board Tablero a analizar.
+     */
+    public DeterministicSolver(Board board) {
+        this(board.getCells(), false);
+    }
+
+    /**
+     * Crea un solucionador y analiza el estado visible actual (una única pasada completa).
+     *
+     * @param cells Celdas del tablero.
+     * @param trustFlags True para tratar las banderas como minas conocidas.
+     */
+    public DeterministicSolver(ICellStorage cells, boolean trustFlags) {
+        this.cells = cells;
+        this.rows = cells.getRows();
+        this.columns = cells.getColumns();
+        this.trustFlags = trustFlags;
+        int size = rows * columns;
+        this.knowledge = new byte[size];
+        this.queue = new int[size];
+        this.queued = new boolean[size];
+        this.safeStack = new int[size];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                cellChanged(row, col);
+            }
+        }
+    }
+
+    /**
+     * Registra las celdas modificadas por una jugada. Si el delta no conserva sus índices, se
+     * deben notificar las celdas con {@link #cellChanged(int, int)}.
+     *
+     * @param delta Cambios de la jugada.
+     */
+    public void update(BoardDelta delta) {
+        if (delta == null || !delta.isRetained()) {
+            return;
+        }
+        for (int i = 0; i < delta.getChangedCount(); i++) {
+            int index = delta.getIndex(i);
+            cellChanged(index / columns, index % columns);
+        }
+    }
+
+    /**
+     * Registra el estado visible actual de una celda y programa la evaluación de los números
+     * afectados.
+     *
+     * @param row Fila de la celda.
+     * @param col Columna de la celda.
+     */
+    public void cellChanged(int row, int col) {
+        int index = row * columns + col;
+        if (cells.isRevealed(row, col)) {
+            if (knowledge[index] != SAFE) {
+                knowledge[index] = SAFE;
+                enqueueRevealedNeighbours(row, col);
+            }
+            enqueue(index);
+        } else if (trustFlags && knowledge[index] != SAFE) {
+            byte flagged = cells.isFlagged(row, col) ? MINE : UNKNOWN;
+            if (knowledge[index] != flagged) {
+                knownMineCount += flagged == MINE ? 1 : -1;
+                knowledge[index] = flagged;
+                enqueueRevealedNeighbours(row, col);
+            }
+        }
+    }
+
+    /**
+     * Aplica las reglas hasta que no queden números pendientes.
+     *
+     * @return Número de casillas resueltas en esta llamada.
+     */
+    public int solve() {
+        long before = deductions;
+        while (queueSize > 0) {
+            int index = queue[queueHead];
+            queueHead = queueHead + 1 == queue.length ? 0 : queueHead + 1;
+            queueSize--;
+            queued[index] = false;
+            evaluate(index);
+        }
+        return (int) (deductions - before);
+    }
+
+    /**
+     * Entrega la siguiente casilla deducida segura que sigue oculta.
+     *
+     * @return Índice {@code fila * columnas + columna}, o -1 si no hay ninguna.
+     */
+    public int pollSafe() {
+        while (safeCount > 0) {
+            int index = safeStack[--safeCount];
+            if (!cells.isRevealed(index / columns, index % columns)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return True si la casilla está revelada o se dedujo segura.
+     */
+    public boolean isKnownSafe(int row, int col) {
+        return knowledge[row * columns + col] == SAFE;
+    }
+
+    /**
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return True si la casilla se dedujo mina.
+     */
+    public boolean isKnownMine(int row, int col) {
+        return knowledge[row * columns + col] == MINE;
+    }
+
+    /**
+     * Evalúa un número con la regla de punto único y, si no basta, con cada número cercano.
+     */
+    private void evaluate(int a) {
+        int rowA = a / columns;
+        int colA = a % columns;
+        if (!cells.isRevealed(rowA, colA)) {
+            return;
+        }
+        int countA = collectUnknown(rowA, colA, unknownA);
+        int missingA = collectedMissing;
+        if (countA == 0) {
+            return;
+        }
+        if (missingA == 0) {
+            markAll(unknownA, countA, SAFE);
+            return;
+        }
+        if (missingA == countA) {
+            markAll(unknownA, countA, MINE);
+            return;
+        }
+        // Números a distancia 2 como máximo comparten vecinas con este.
+        for (int row = Math.max(0, rowA - 2); row <= Math.min(rows - 1, rowA + 2); row++) {
+            for (int col = Math.max(0, colA - 2); col <= Math.min(columns - 1, colA + 2); col++) {
+                if ((row != rowA || col != colA) && cells.isRevealed(row, col)
+                        && comparePair(missingA, countA, row, col)) {
+                    enqueue(a); // Las desconocidas de A pueden haber cambiado; se evalúa de nuevo.
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Aplica la regla de subconjuntos entre A (ya evaluado) y B en ambos sentidos.
+     *
+     * @return True si se dedujo alguna casilla.
+     */
+    private boolean comparePair(int missingA, int countA, int rowB, int colB) {
+        int countB = collectUnknown(rowB, colB, unknownB);
+        int missingB = collectedMissing;
+        if (countB == 0) {
+            return false;
+        }
+        int shared = 0;
+        for (int i = 0; i < countA; i++) {
+            if (contains(unknownB, countB, unknownA[i])) {
+                shared++;
+            }
+        }
+        if (shared == 0) {
+            return false;
+        }
+        int onlyA = countA - shared;
+        int onlyB = countB - shared;
+        if (onlyA == 0 && missingA == missingB && onlyB > 0) {
+            return markDifference(unknownB, countB, unknownA, countA, SAFE) > 0;
+        }
+        if (onlyB == 0 && missingA == missingB && onlyA > 0) {
+            return markDifference(unknownA, countA, unknownB, countB, SAFE) > 0;
+        }
+        if (onlyB > 0 && missingB - missingA == onlyB) {
+            int marked = markDifference(unknownB, countB, unknownA, countA, MINE);
+            return marked + markDifference(unknownA, countA, unknownB, countB, SAFE) > 0;
+        }
+        if (onlyA > 0 && missingA - missingB == onlyA) {
+            int marked = markDifference(unknownA, countA, unknownB, countB, MINE);
+            return marked + markDifference(unknownB, countB, unknownA, countA, SAFE) > 0;
+        }
+        return false;
+    }
+
+    /**
+     * Reúne las vecinas desconocidas de un número y deja en {@code collectedMissing} las minas
+     * que aún le faltan.
+     *
+     * @return Número de vecinas desconocidas.
+     */
+    private int collectUnknown(int row, int col, int[] out) {
+        int count = 0;
+        int missing = cells.getAdjacentMines(row, col);
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                int index = r * columns + c;
+                if (knowledge[index] == UNKNOWN) {
+                    out[count++] = index;
+                } else if (knowledge[index] == MINE) {
+                    missing--;
+                }
+            }
+        }
+        collectedMissing = missing;
+        return count;
+    }
+
+    private void markAll(int[] targets, int count, byte value) {
+        for (int i = 0; i < count; i++) {
+            mark(targets[i], value);
+        }
+    }
+
+    /**
+     * Marca las casillas de {@code from} que no están en {@code except}.
+     *
+     * @return Número de casillas marcadas.
+     */
+    private int markDifference(int[] from, int fromCount, int[] except, int exceptCount, byte value) {
+        int marked = 0;
+        for (int i = 0; i < fromCount; i++) {
+            if (!contains(except, exceptCount, from[i]) && mark(from[i], value)) {
+                marked++;
+            }
+        }
+        return marked;
+    }
+
+    private boolean mark(int index, byte value) {
+        if (knowledge[index] != UNKNOWN) {
+            return false;
+        }
+        knowledge[index] = value;
+        deductions++;
+        if (value == SAFE) {
+            safeStack[safeCount++] = index;
+        } else {
+            knownMineCount++;
+        }
+        enqueueRevealedNeighbours(index / columns, index % columns);
+        return true;
+    }
+
+    private void enqueueRevealedNeighbours(int row, int col) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                if ((r != row || c != col) && cells.isRevealed(r, c)) {
+                    enqueue(r * columns + c);
+                }
+            }
+        }
+    }
+
+    private void enqueue(int index) {
+        if (queued[index]) {
+            return;
+        }
+        queued[index] = true;
+        int tail = queueHead + queueSize;
+        queue[tail >= queue.length ? tail - queue.length : tail] = index;
+        queueSize++;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
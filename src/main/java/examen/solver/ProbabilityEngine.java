@@ -0,0 +1,375 @@
+package examen.solver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import examen.models.Board;
+import examen.models.BoardInterfaces.ICellStorage;
+import lombok.Getter;
+
+/**
+ * Calcula la probabilidad exacta de que cada casilla oculta tenga mina a partir de la
+ * información visible (números revelados y minas totales).
+ *
+ * La frontera (casillas ocultas vecinas de un número) se divide en componentes independientes:
+ * dos casillas están en el mismo componente si comparten un número. Cada componente se enumera
+ * con {@link ComponentEnumerator}, contando sus configuraciones según el número de minas que
+ * usa, y los componentes se combinan con el resto de casillas ocultas mediante pesos binomiales
+ * {@code C(ocultas fuera de la frontera, minas restantes)}. Los resultados de cada componente
+ * se guardan por sus restricciones exactas, de modo que tras una jugada solo se enumeran los
+ * componentes que cambiaron.
+ */
+public class ProbabilityEngine {
+    private final ICellStorage cells;
+    private final int rows;
+    private final int columns;
+    private final int totalMines;
+    private final double[] probability; // Probabilidad de mina por celda (0 para reveladas).
+    private final double[] logFactorial; // ln(n!) para los pesos binomiales.
+    private final int[] parent; // Unión-búsqueda sobre las casillas de la frontera.
+    private final int[] componentOf; // Componente de cada casilla de la frontera, o -1.
+    private Map<ComponentKey, ComponentEnumerator.Result> cache = new HashMap<>(); // Componentes del último cálculo.
+    @Getter
+    private int componentCount; // Componentes del último cálculo.
+    @Getter
+    private long cacheHits; // Componentes reutilizados sin enumerar.
+    @Getter
+    private long cacheMisses; // Componentes enumerados.
+
+    /**
+     * Crea un motor para un tablero.
+     *
+     * @param board Tablero a analizar.
+     */
+    public ProbabilityEngine(Board board) {
+        this(board.getCells(), board.getTotalMines());
+    }
+
+    /**
+     * Crea un motor sobre unas celdas.
+     *
+     * @param cells Celdas del tablero.
+     * @param totalMines Número total de minas del tablero.
+     */
+    public ProbabilityEngine(ICellStorage cells, int totalMines) {
+        this.cells = cells;
+        this.rows = cells.getRows();
+        this.columns = cells.getColumns();
+        this.totalMines = totalMines;
+        int size = rows * columns;
+        this.probability = new double[size];
+        this.parent = new int[size];
+        this.componentOf = new int[size];
+        this.logFactorial = new double[size + 1];
+        for (int n = 2; n <= size; n++) {
+            logFactorial[n] = logFactorial[n - 1] + Math.log(n);
+        }
+    }
+
+    /**
+     * Recalcula las probabilidades con el estado visible actual. Los componentes cuyas
+     * restricciones no cambiaron desde el cálculo anterior se toman de la caché.
+     */
+    public void compute() {
+        int size = rows * columns;
+        Arrays.fill(componentOf, -1);
+        int minesLeft = totalMines;
+        int hidden = 0;
+        int frontier = 0;
+        for (int index = 0; index < size; index++) {
+            int row = index / columns;
+            int col = index % columns;
+            probability[index] = 0;
+            if (cells.isRevealed(row, col)) {
+                if (cells.isMine(row, col)) {
+                    minesLeft--; // Mina ya visible al perder la partida.
+                }
+            } else {
+                hidden++;
+                if (hasConstraint(row, col)) {
+                    parent[index] = index;
+                    componentOf[index] = 0; // Marca provisional de frontera.
+                    frontier++;
+                }
+            }
+        }
+        for (int index = 0; index < size; index++) {
+            if (isConstraint(index / columns, index % columns)) {
+                unionNeighbours(index / columns, index % columns);
+            }
+        }
+
+        int[] roots = new int[frontier];
+        int components = 0;
+        for (int index = 0; index < size; index++) {
+            if (componentOf[index] >= 0 && find(index) == index) {
+                roots[components++] = index;
+            }
+        }
+        int[] componentIds = new int[size];
+        for (int id = 0; id < components; id++) {
+            componentIds[roots[id]] = id;
+        }
+        for (int index = 0; index < size; index++) {
+            if (componentOf[index] >= 0) {
+                componentOf[index] = componentIds[find(index)];
+            }
+        }
+
+        ComponentKey[] keys = buildKeys(components);
+        Map<ComponentKey, ComponentEnumerator.Result> next = new HashMap<>();
+        ComponentEnumerator.Result[] results = new ComponentEnumerator.Result[components];
+        for (int id = 0; id < components; id++) {
+            ComponentKey key = keys[id];
+            ComponentEnumerator.Result result = cache.get(key);
+            if (result == null) {
+                result = next.get(key);
+            }
+            if (result == null) {
+                result = new ComponentEnumerator(key.data).enumerate();
+                cacheMisses++;
+            } else {
+                cacheHits++;
+            }
+            next.put(key, result);
+            results[id] = result;
+        }
+        cache = next;
+        componentCount = components;
+
+        combine(results, hidden - frontier, minesLeft);
+    }
+
+    /**
+     * @param row Fila de la casilla.
+     * @param col Columna de la casilla.
+     * @return Probabilidad de mina según el último {@link #compute()} (0 si está revelada).
+     */
+    public double getMineProbability(int row, int col) {
+        return probability[row * columns + col];
+    }
+
+    /**
+     * Busca la casilla oculta con menor probabilidad de mina según el último cálculo.
+     *
+     * @return Índice {@code fila * columnas + columna}, o -1 si no quedan casillas ocultas.
+     */
+    public int safestHiddenCell() {
+        int best = -1;
+        for (int index = 0; index < probability.length; index++) {
+            if (!cells.isRevealed(index / columns, index % columns)
+                    && (best < 0 || probability[index] < probability[best])) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Combina los componentes con las casillas fuera de la frontera y escribe las probabilidades.
+     */
+    private void combine(ComponentEnumerator.Result[] results, int outside, int minesLeft) {
+        int components = results.length;
+        double[][] prefix = new double[components + 1][];
+        double[][] suffix = new double[components + 1][];
+        prefix[0] = new double[] { 1 };
+        suffix[components] = new double[] { 1 };
+        for (int id = 0; id < components; id++) {
+            prefix[id + 1] = convolve(prefix[id], results[id].weights);
+        }
+        for (int id = components - 1; id >= 0; id--) {
+            suffix[id] = convolve(results[id].weights, suffix[id + 1]);
+        }
+
+        // Peso binomial, escalado, de dejar minesLeft - t minas fuera de la frontera.
+        double[] outsideWeight = binomialWeights(prefix[components].length - 1, outside, minesLeft);
+
+        for (int id = 0; id < components; id++) {
+            ComponentEnumerator.Result result = results[id];
+            double[] others = convolve(prefix[id], suffix[id + 1]);
+            int maxK = result.weights.length - 1;
+            double[] g = new double[maxK + 1];
+            double total = 0;
+            for (int k = 0; k <= maxK; k++) {
+                for (int s = 0; s < others.length; s++) {
+                    g[k] += others[s] * outsideWeight[k + s];
+                }
+                total += result.weights[k] * g[k];
+            }
+            for (int pos = 0; pos < result.cells.length; pos++) {
+                double mined = 0;
+                for (int k = 0; k <= maxK; k++) {
+                    mined += result.cellMines[pos * (maxK + 1) + k] * g[k];
+                }
+                probability[result.cells[pos]] = total > 0 ? mined / total : 0;
+            }
+        }
+
+        if (outside > 0) {
+            double[] all = prefix[components];
+            double mined = 0;
+            double total = 0;
+            for (int t = 0; t < all.length; t++) {
+                double weight = all[t] * outsideWeight[t];
+                mined += weight * (minesLeft - t);
+                total += weight * outside;
+            }
+            double outsideProbability = total > 0 ? mined / total : 0;
+            for (int index = 0; index < probability.length; index++) {
+                if (componentOf[index] < 0 && !cells.isRevealed(index / columns, index % columns)) {
+                    probability[index] = outsideProbability;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula {@code C(outside, minesLeft - t)} para t de 0 a maxFrontier, dividido por el mayor
+     * de ellos para no desbordar.
+     */
+    private double[] binomialWeights(int maxFrontier, int outside, int minesLeft) {
+        double[] logWeight = new double[maxFrontier + 1];
+        double maxLog = Double.NEGATIVE_INFINITY;
+        for (int t = 0; t <= maxFrontier; t++) {
+            int rest = minesLeft - t;
+            logWeight[t] = rest < 0 || rest > outside ? Double.NEGATIVE_INFINITY
+                    : logFactorial[outside] - logFactorial[rest] - logFactorial[outside - rest];
+            maxLog = Math.max(maxLog, logWeight[t]);
+        }
+        double[] weights = new double[maxFrontier + 1];
+        for (int t = 0; t <= maxFrontier; t++) {
+            weights[t] = Double.isInfinite(logWeight[t]) ? 0 : Math.exp(logWeight[t] - maxLog);
+        }
+        return weights;
+    }
+
+    /**
+     * Construye en una pasada la clave de cada componente: por cada número que lo restringe (en
+     * orden de índice), su índice, su valor, cuántas vecinas ocultas tiene y cuáles son.
+     */
+    private ComponentKey[] buildKeys(int components) {
+        int[][] data = new int[components][16];
+        int[] length = new int[components];
+        for (int index = 0; index < rows * columns; index++) {
+            int row = index / columns;
+            int col = index % columns;
+            if (!isConstraint(row, col)) {
+                continue;
+            }
+            int id = componentOf[firstHiddenNeighbour(row, col)];
+            if (length[id] + 11 > data[id].length) {
+                data[id] = Arrays.copyOf(data[id], data[id].length * 2);
+            }
+            int[] buffer = data[id];
+            int at = length[id];
+            buffer[at++] = index;
+            buffer[at++] = cells.getAdjacentMines(row, col);
+            int countAt = at++;
+            for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                    if (!cells.isRevealed(r, c)) {
+                        buffer[at++] = r * columns + c;
+                    }
+                }
+            }
+            buffer[countAt] = at - countAt - 1;
+            length[id] = at;
+        }
+        ComponentKey[] keys = new ComponentKey[components];
+        for (int id = 0; id < components; id++) {
+            keys[id] = new ComponentKey(Arrays.copyOf(data[id], length[id]));
+        }
+        return keys;
+    }
+
+    private boolean isConstraint(int row, int col) {
+        return cells.isRevealed(row, col) && !cells.isMine(row, col) && firstHiddenNeighbour(row, col) >= 0;
+    }
+
+    private boolean hasConstraint(int row, int col) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                if ((r != row || c != col) && cells.isRevealed(r, c) && !cells.isMine(r, c)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int firstHiddenNeighbour(int row, int col) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                if (!cells.isRevealed(r, c)) {
+                    return r * columns + c;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void unionNeighbours(int row, int col) {
+        int first = firstHiddenNeighbour(row, col);
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                if (!cells.isRevealed(r, c)) {
+                    parent[find(r * columns + c)] = find(first);
+                }
+            }
+        }
+    }
+
+    private int find(int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    /**
+     * Convoluciona dos distribuciones por número de minas y normaliza el resultado por su máximo.
+     */
+    private static double[] convolve(double[] first, double[] second) {
+        double[] result = new double[first.length + second.length - 1];
+        double max = 0;
+        for (int i = 0; i < first.length; i++) {
+            for (int j = 0; j < second.length; j++) {
+                result[i + j] += first[i] * second[j];
+            }
+        }
+        for (double value : result) {
+            max = Math.max(max, value);
+        }
+        if (max > 0) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] /= max;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Restricciones exactas de un componente, comparadas por contenido.
+     */
+    private static final class ComponentKey {
+        private final int[] data;
+        private final int hash;
+
+        private ComponentKey(int[] data) {
+            this.data = data;
+            this.hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ComponentKey && Arrays.equals(data, ((ComponentKey) other).data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
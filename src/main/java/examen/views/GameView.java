@@ -5,6 +5,7 @@ import java.util.Scanner;
 import examen.views.ViewInterfaces.InputView;
 import examen.views.ViewInterfaces.MessageView;
 import examen.exceptions.BoardException;
+import examen.models.RowLabels;
 
 public class GameView implements MessageView, InputView {
     private final Scanner scanner;
@@ -22,7 +23,8 @@ public class GameView implements MessageView, InputView {
     // Implementación de los métodos de InputView
     @Override
     public String promptAction(String playerName) {
-        System.out.println("¿Qué deseas hacer " + playerName + "? (V para revelar, F para marcar/desmarcar): ");
+        System.out.println("¿Qué deseas hacer " + playerName + "? (V para revelar, F para marcar/desmarcar, "
+                + "W/A/S/D para desplazar la vista, I para ir a una casilla, R para redibujar): ");
         return scanner.nextLine().trim().toUpperCase();
     }
 
@@ -65,7 +67,7 @@ public class GameView implements MessageView, InputView {
                 System.out.print("Ingresa el número total de minas: ");
                 int totalMines = validarNumeroPositivo(scanner.nextLine(), "minas");
 
-                if (totalMines >= rows * columns) {
+                if (totalMines >= (long) rows * columns) {
                     System.out.println("**** Número de minas inválido. Intenta de nuevo " + playerName + ". ****");
                     continue;
                 }
@@ -165,16 +167,26 @@ public class GameView implements MessageView, InputView {
         System.out.println("**** Ya has usado todas tus banderas. No puedes marcar más casillas. ****");
     }
 
-    // Método parseCoordinates añadido
+    /**
+     * Convierte una coordenada como "B3" o "AB12" en índices de fila y columna. Las filas usan
+     * una o más letras (A..Z, AA..AZ, ...), de modo que se admiten tableros de más de 26 filas.
+     *
+     * @param position Coordenada ingresada por el jugador.
+     * @return Arreglo con fila y columna, o null si el formato no es válido.
+     */
     public static int[] parseCoordinates(String position) {
-        if (position.length() < 2)
+        int letters = 0;
+        while (letters < position.length() && Character.isLetter(position.charAt(letters))) {
+            letters++;
+        }
+        if (letters == 0 || letters == position.length())
             return null;
 
-        char rowChar = position.toUpperCase().charAt(0);
-        if (rowChar < 'A' || rowChar > 'Z')
+        int row = RowLabels.parse(position.substring(0, letters));
+        if (row < 0)
             return null;
 
-        String colString = position.substring(1);
+        String colString = position.substring(letters);
         int column;
         try {
             column = Integer.parseInt(colString) - 1;
@@ -182,7 +194,27 @@ public class GameView implements MessageView, InputView {
             return null;
         }
 
-        int row = rowChar - 'A';
         return new int[] { row, column };
     }
+
+    /**
+     * Interpreta una acción de desplazamiento de la vista (W, A, S, D).
+     *
+     * @param action Acción ingresada por el jugador.
+     * @return Dirección como {filas, columnas}, o null si no es un desplazamiento.
+     */
+    public static int[] parsePanDirection(String action) {
+        switch (action) {
+            case "W":
+                return new int[] { -1, 0 };
+            case "S":
+                return new int[] { 1, 0 };
+            case "A":
+                return new int[] { 0, -1 };
+            case "D":
+                return new int[] { 0, 1 };
+            default:
+                return null;
+        }
+    }
 }
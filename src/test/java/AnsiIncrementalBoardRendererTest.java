@@ -0,0 +1,107 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import examen.models.AnsiIncrementalBoardRenderer;
+import examen.models.Board;
+import examen.models.Game;
+import examen.models.GameEngine;
+import examen.models.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnsiIncrementalBoardRendererTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+    private AnsiIncrementalBoardRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outContent));
+        renderer = new AnsiIncrementalBoardRenderer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void testFirstFrameIsFullRedraw() {
+        Board board = createBoard(3, 4);
+
+        renderer.printBoard(board);
+
+        String output = outContent.toString();
+        assertTrue(output.contains("\u001B[2J"), "El primer fotograma limpia la pantalla");
+        assertTrue(output.contains("  1 2 3 4\nA ? ? ? ?\nB ? ? ? ?\nC ? ? ? ?\n"));
+    }
+
+    @Test
+    void testOnlyChangedCellIsRewritten() {
+        Board board = createBoard(5, 5);
+        renderer.printBoard(board);
+        outContent.reset();
+
+        board.getBox(2, 3).setFlagged(true);
+        renderer.printBoard(board);
+
+        assertEquals("\u001B7\u001B[4;9HF\u001B8", outContent.toString());
+    }
+
+    @Test
+    void testResetForcesFullRedraw() {
+        Board board = createBoard(4, 4);
+        renderer.printBoard(board);
+        outContent.reset();
+
+        renderer.reset(); // Por ejemplo, tras redimensionar la terminal.
+        renderer.printBoard(board);
+
+        assertTrue(outContent.toString().contains("\u001B[2J"), "Se redibuja sin comparar con la pantalla anterior");
+    }
+
+    @Test
+    void testNothingIsWrittenWithoutChanges() {
+        Board board = createBoard(4, 4);
+        renderer.printBoard(board);
+        outContent.reset();
+
+        renderer.printBoard(board);
+
+        assertEquals("", outContent.toString());
+    }
+
+    @Test
+    void testNewBoardForcesFullRedraw() {
+        renderer.printBoard(createBoard(4, 4));
+        outContent.reset();
+
+        renderer.printBoard(createBoard(6, 3));
+
+        assertTrue(outContent.toString().contains("\u001B[2J"));
+    }
+
+    private Board createBoard(int rows, int columns) {
+        Board board = Board.builder().rows(rows).columns(columns).totalMines(2).random(new Random(9)).build();
+        board.generateBoard();
+        return board;
+    }
+
+    @Test
+    void testDeltaUpdatesOnlyListedCells() {
+        Board board = createBoard(5, 5);
+        renderer.printBoard(board);
+        outContent.reset();
+        GameEngine engine = new GameEngine(Game.builder().board(board)
+                .player(Player.builder().name("Bot").build()).build());
+
+        renderer.printChanges(board, engine.toggleFlag(4, 0).getDelta());
+
+        assertEquals("\u001B7\u001B[6;3HF\u001B8", outContent.toString());
+    }
+}
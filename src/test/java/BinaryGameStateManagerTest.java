@@ -0,0 +1,125 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import examen.models.Board;
+import examen.models.EmptyBox;
+import examen.models.Game;
+import examen.models.MinedBox;
+import examen.models.Player;
+import examen.repositories.BinaryGameStateManager;
+import examen.repositories.GamePersistenceInterface.IGameLoadResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryGameStateManagerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripPreservesBoardState() {
+        Path file = tempDir.resolve("state.bin");
+        BinaryGameStateManager manager = new BinaryGameStateManager(file, true);
+        Game game = createGame();
+        game.getBoard().getBox(0, 1).setFlagged(true);
+        game.getBoard().revealAdjacent(findSafeCell(game.getBoard()) / 12, findSafeCell(game.getBoard()) % 12);
+
+        manager.saveGameState(game);
+        IGameLoadResult result = manager.loadGameState();
+
+        assertNotNull(result);
+        Board loaded = result.getGame().getBoard();
+        Board original = game.getBoard();
+        assertEquals("Jugador", result.getGame().getPlayer().getName());
+        assertEquals(original.getTotalMines(), loaded.getTotalMines());
+        assertEquals(original.getFlagCount(), loaded.getFlagCount());
+        assertEquals(original.getHiddenSafeCount(), loaded.getHiddenSafeCount());
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 12; col++) {
+                assertEquals(original.getBox(row, col) instanceof MinedBox, loaded.getBox(row, col) instanceof MinedBox);
+                assertEquals(original.getBox(row, col).isRevealed(), loaded.getBox(row, col).isRevealed());
+                assertEquals(original.getBox(row, col).isFlagged(), loaded.getBox(row, col).isFlagged());
+                assertEquals(original.getBox(row, col).getAdjacentMines(), loaded.getBox(row, col).getAdjacentMines());
+            }
+        }
+    }
+
+    @Test
+    void testCorruptedFileIsRejected() throws IOException {
+        Path file = tempDir.resolve("state.bin");
+        BinaryGameStateManager manager = new BinaryGameStateManager(file, true);
+        manager.saveGameState(createGame());
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 20] ^= 0x55;
+        Files.write(file, bytes);
+
+        assertNull(manager.loadGameState());
+    }
+
+    @Test
+    void testMissingFileAndClear() {
+        Path file = tempDir.resolve("state.bin");
+        BinaryGameStateManager manager = new BinaryGameStateManager(file, false);
+        assertNull(manager.loadGameState());
+
+        manager.saveGameState(createGame());
+        assertTrue(Files.exists(file));
+        manager.clearGameState();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void testSeededGameStoresOnlyTheSeed() throws IOException {
+        Path file = tempDir.resolve("state.bin");
+        BinaryGameStateManager manager = new BinaryGameStateManager(file, true);
+        Board board = Board.builder().rows(200).columns(300).totalMines(9_000).seed(77L)
+                .deferredGeneration(true).build();
+        board.generateBoard();
+        Game game = Game.builder().board(board).player(Player.builder().name("Jugador").build()).build();
+
+        manager.saveGameState(game);
+        assertTrue(Files.size(file) < 64);
+        assertTrue(manager.loadGameState().getGame().getBoard().isMinesPending());
+
+        board.revealAdjacent(100, 150);
+        board.getBox(0, 0).setFlagged(true);
+        manager.saveGameState(game);
+        Board loaded = manager.loadGameState().getGame().getBoard();
+        assertEquals(77L, loaded.getSeed());
+        assertEquals(board.getSafeCell(), loaded.getSafeCell());
+        assertEquals(board.getHiddenSafeCount(), loaded.getHiddenSafeCount());
+        assertEquals(board.getFlagCount(), loaded.getFlagCount());
+        for (int row = 0; row < 200; row++) {
+            for (int col = 0; col < 300; col++) {
+                assertEquals(board.getBox(row, col) instanceof MinedBox, loaded.getBox(row, col) instanceof MinedBox);
+                assertEquals(board.getBox(row, col).isRevealed(), loaded.getBox(row, col).isRevealed());
+                assertEquals(board.getBox(row, col).getAdjacentMines(), loaded.getBox(row, col).getAdjacentMines());
+            }
+        }
+    }
+
+    private Game createGame() {
+        Board board = Board.builder()
+                .rows(10)
+                .columns(12)
+                .totalMines(15)
+                .random(new Random(5))
+                .build();
+        board.generateBoard();
+        return Game.builder().board(board).player(Player.builder().name("Jugador").build()).build();
+    }
+
+    private int findSafeCell(Board board) {
+        for (int i = 0; i < 120; i++) {
+            if (board.getBox(i / 12, i % 12) instanceof EmptyBox) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
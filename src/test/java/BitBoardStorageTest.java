@@ -0,0 +1,72 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.EmptyBox;
+import examen.models.MinedBox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardStorageTest {
+
+    @Test
+    void testBitsAreIndependentPerCell() {
+        BitBoardStorage storage = new BitBoardStorage(3, 70);
+
+        storage.setMine(1, 64, true);
+        storage.setFlagged(2, 69, true);
+        storage.setRevealed(0, 0, true);
+        storage.setAdjacentMines(1, 63, 3);
+
+        assertTrue(storage.isMine(1, 64));
+        assertFalse(storage.isMine(1, 63));
+        assertTrue(storage.isFlagged(2, 69));
+        assertTrue(storage.isRevealed(0, 0));
+        assertEquals(3, storage.getAdjacentMines(1, 63));
+
+        storage.setMine(1, 64, false);
+        assertFalse(storage.isMine(1, 64));
+    }
+
+    @Test
+    void testGeneratedBitboardBoardMatchesMineCount() {
+        Board board = Board.builder()
+                .rows(20)
+                .columns(30)
+                .totalMines(50)
+                .storageFactory(BitBoardStorage::new)
+                .build();
+        board.generateBoard();
+
+        assertNotNull(board.getStorage());
+        int mines = 0;
+        for (int row = 0; row < 20; row++) {
+            for (int col = 0; col < 30; col++) {
+                if (board.getBox(row, col) instanceof MinedBox) {
+                    mines++;
+                }
+            }
+        }
+        assertEquals(50, mines);
+    }
+
+    @Test
+    void testViewsWriteThroughToStorage() {
+        Board board = Board.builder()
+                .rows(3)
+                .columns(3)
+                .totalMines(0)
+                .storageFactory(BitBoardStorage::new)
+                .build();
+        board.generateBoard();
+
+        board.getBox(1, 1).setFlagged(true);
+        assertTrue(board.getStorage().isFlagged(1, 1));
+        assertTrue(board.getBox(1, 1).isFlagged());
+
+        board.revealAdjacent(0, 0);
+        assertTrue(board.getBox(2, 2).isRevealed());
+        assertEquals(0, ((EmptyBox) board.getBox(2, 2)).getAdjacentMinesCount());
+        assertTrue(board.allNonMinedBoxesRevealed());
+    }
+}
@@ -0,0 +1,166 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.BoardMetrics;
+import examen.models.ParallelBoardGenerator;
+import examen.models.SlidingWindowAdjacentMineCalculator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardMetricsTest {
+
+    @Test
+    void testOpeningsAbsorbTheirBorder() {
+        // 0 0 1 * 1 0 0: dos aperturas y ningún número aislado.
+        BoardMetrics metrics = BoardMetrics.measure(storage(1, 7, new int[][] { { 0, 3 } }));
+
+        assertEquals(2, metrics.getOpenings());
+        assertEquals(0, metrics.getIsolatedNumbers());
+        assertEquals(2, metrics.getBbbv());
+    }
+
+    @Test
+    void testNumbersWithoutOpeningsFormOneIsland() {
+        // Minas en las esquinas: los cinco números se tocan y ninguno es cero.
+        BoardMetrics metrics = BoardMetrics.measure(storage(3, 3, new int[][] { { 0, 0 }, { 0, 2 }, { 2, 0 }, { 2, 2 } }));
+
+        assertEquals(0, metrics.getOpenings());
+        assertEquals(5, metrics.getIsolatedNumbers());
+        assertEquals(1, metrics.getIslands());
+        assertEquals(5, metrics.getBbbv());
+    }
+
+    @Test
+    void testMatchesFloodFillOnGeneratedBoards() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Board grid = Board.builder().rows(30).columns(40).totalMines(150 + (int) seed * 10).seed(seed).build();
+            Board bits = Board.builder().rows(30).columns(40).totalMines(150 + (int) seed * 10).seed(seed)
+                    .storageFactory(BitBoardStorage::new).build();
+            grid.generateBoard();
+            bits.generateBoard();
+
+            int[] expected = floodFill(grid.getCells());
+            for (BoardMetrics metrics : new BoardMetrics[] { grid.getMetrics(), bits.getMetrics() }) {
+                assertEquals(expected[0], metrics.getOpenings(), "Semilla " + seed);
+                assertEquals(expected[1], metrics.getIsolatedNumbers(), "Semilla " + seed);
+                assertEquals(expected[2], metrics.getIslands(), "Semilla " + seed);
+            }
+        }
+    }
+
+    @Test
+    void testGenerationMeasuresInTheAdjacencyPass() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 20; seed++) {
+                for (int columns : new int[] { 1, 37, 64 }) {
+                    int mines = (int) (seed * 23 % 400) * columns / 64;
+                    Board grid = Board.builder().rows(120).columns(columns).totalMines(mines).random(new Random(seed))
+                            .build();
+                    Board banded = Board.builder().rows(120).columns(columns).totalMines(mines)
+                            .storageFactory(BitBoardStorage::new)
+                            .parallelGenerator(new ParallelBoardGenerator(seed, pool, 200)).build();
+                    for (Board board : new Board[] { grid, banded }) {
+                        board.generateBoard();
+                        assertEquals(BoardMetrics.measure(board.getCells()), board.getMetrics(),
+                                "Semilla " + seed + ", " + columns + " columnas");
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDeferredBoardIsMeasuredOnceMinesArePlaced() {
+        Board board = Board.builder().rows(16).columns(30).totalMines(99).seed(4L).deferredGeneration(true)
+                .storageFactory(BitBoardStorage::new).build();
+        board.generateBoard();
+        assertNull(board.getMetrics());
+
+        board.revealAdjacent(8, 15);
+        BoardMetrics metrics = board.getMetrics();
+        assertNotNull(metrics);
+        assertTrue(metrics.getOpenings() >= 1, "El primer clic protegido abre una región");
+        assertEquals(BoardMetrics.measure(board.getCells()), metrics);
+    }
+
+    private static BitBoardStorage storage(int rows, int columns, int[][] mines) {
+        BitBoardStorage cells = new BitBoardStorage(rows, columns);
+        for (int[] mine : mines) {
+            cells.setMine(mine[0], mine[1], true);
+        }
+        new SlidingWindowAdjacentMineCalculator().calculateAdjacentMinesInStorage(cells);
+        return cells;
+    }
+
+    /**
+     * Calcula aperturas, números aislados e islas recorriendo cada región por separado.
+     */
+    private static int[] floodFill(ICellStorage cells) {
+        int rows = cells.getRows();
+        int columns = cells.getColumns();
+        boolean[] isolated = new boolean[rows * columns];
+        int isolatedCount = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (!cells.isMine(row, col) && cells.getAdjacentMines(row, col) > 0 && !touchesZero(cells, row, col)) {
+                    isolated[row * columns + col] = true;
+                    isolatedCount++;
+                }
+            }
+        }
+        boolean[] seen = new boolean[rows * columns];
+        int openings = 0;
+        int islands = 0;
+        for (int index = 0; index < rows * columns; index++) {
+            int row = index / columns;
+            int col = index % columns;
+            boolean zero = !cells.isMine(row, col) && cells.getAdjacentMines(row, col) == 0;
+            if (seen[index] || !(zero || isolated[index])) {
+                continue;
+            }
+            if (zero) {
+                openings++;
+            } else {
+                islands++;
+            }
+            Deque<Integer> pending = new ArrayDeque<>();
+            pending.push(index);
+            seen[index] = true;
+            while (!pending.isEmpty()) {
+                int cell = pending.pop();
+                for (int r = Math.max(0, cell / columns - 1); r <= Math.min(rows - 1, cell / columns + 1); r++) {
+                    for (int c = Math.max(0, cell % columns - 1); c <= Math.min(columns - 1, cell % columns + 1); c++) {
+                        int other = r * columns + c;
+                        boolean sameKind = zero ? !cells.isMine(r, c) && cells.getAdjacentMines(r, c) == 0 : isolated[other];
+                        if (!seen[other] && sameKind) {
+                            seen[other] = true;
+                            pending.push(other);
+                        }
+                    }
+                }
+            }
+        }
+        return new int[] { openings, isolatedCount, islands };
+    }
+
+    private static boolean touchesZero(ICellStorage cells, int row, int col) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(cells.getRows() - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cells.getColumns() - 1, col + 1); c++) {
+                if (!cells.isMine(r, c) && cells.getAdjacentMines(r, c) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
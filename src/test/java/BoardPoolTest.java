@@ -0,0 +1,97 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.Board;
+import examen.models.BoardPool;
+import examen.models.BoardPool.Preset;
+import examen.models.MinedBox;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardPoolTest {
+
+    @Test
+    void testWarmPresetIsHandedOverWithoutGenerating() throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        try (BoardPool pool = new BoardPool((rows, columns, mines) -> {
+            created.incrementAndGet();
+            return newBoard(rows, columns, mines);
+        }, 3, 4, 2)) {
+            pool.warm(16, 30, 99);
+            awaitReady(pool, new Preset(16, 30, 99), 3);
+            assertEquals(3, created.get());
+
+            Set<Board> handed = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                Board board = pool.acquire(16, 30, 99);
+                assertEquals(16, board.getRows());
+                assertEquals(99, board.getTotalMines());
+                assertTrue(handed.add(board), "Cada tablero se entrega una sola vez");
+            }
+            assertEquals(3, pool.getHits());
+            assertEquals(0, pool.getMisses());
+            assertEquals(1.0, pool.getHitRate());
+
+            awaitRefills(pool, 6); // La cola se llena antes de contar la reposición.
+            assertEquals(6, pool.getRefills());
+            assertTrue(pool.getMaxRefillLatencyMillis() >= pool.getAverageRefillLatencyMillis());
+        }
+    }
+
+    @Test
+    void testMissFallsBackToSynchronousGeneration() {
+        try (BoardPool pool = new BoardPool(BoardPoolTest::newBoard, 1, 1, 1)) {
+            Board first = pool.acquire(9, 9, 10);
+            assertNotNull(first);
+            assertEquals(1, pool.getMisses());
+
+            Board other = pool.acquire(8, 8, 10); // Excede el número de combinaciones con reposición.
+            assertEquals(8, other.getRows());
+            assertEquals(0, pool.readyCount(new Preset(8, 8, 10)));
+            assertEquals(0.0, pool.getHitRate());
+        }
+    }
+
+    @Test
+    void testPooledBoardNeedsNoGenerationOnFirstClick() throws InterruptedException {
+        try (BoardPool pool = new BoardPool(BoardPoolTest::newBoard, 1, 1, 1)) {
+            pool.warm(16, 30, 99);
+            awaitRefills(pool, 1);
+            Board board = pool.acquire(16, 30, 99);
+            assertFalse(board.isMinesPending(), "Las minas ya están colocadas");
+            assertTrue(board.isRelocationPending());
+
+            board.revealAdjacent(8, 15);
+            assertFalse(board.getBox(8, 15) instanceof MinedBox);
+            assertEquals(0, board.getBox(8, 15).getAdjacentMines());
+        }
+    }
+
+    /**
+     * Crea los tableros igual que {@code GameController#createBoard}.
+     */
+    private static Board newBoard(int rows, int columns, int mines) {
+        Board board = Board.builder().rows(rows).columns(columns).totalMines(mines)
+                .seed(new SplittableRandom().nextLong()).firstClickRelocation(true).build();
+        board.generateBoard();
+        return board;
+    }
+
+    private static void awaitRefills(BoardPool pool, long count) throws InterruptedException {
+        for (int i = 0; i < 500 && pool.getRefills() < count; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, pool.getRefills());
+    }
+
+    private static void awaitReady(BoardPool pool, Preset preset, int count) throws InterruptedException {
+        for (int i = 0; i < 500 && pool.readyCount(preset) < count; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, pool.readyCount(preset));
+    }
+}
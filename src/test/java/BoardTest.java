@@ -153,4 +153,30 @@ class BoardTest {
         board.getBoxes()[5][5].setRevealed(false);
         assertFalse(board.allNonMinedBoxesRevealed());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCountersFollowFlagAndRevealChanges() {
+        Board realBoard = Board.builder().rows(4).columns(4).totalMines(2).build();
+        realBoard.generateBoard();
+        assertEquals(0, realBoard.getFlagCount());
+        assertEquals(14, realBoard.getHiddenSafeCount());
+
+        // Marcar y desmarcar la misma casilla no debe acumular banderas
+        realBoard.getBox(0, 0).setFlagged(true);
+        realBoard.getBox(0, 0).setFlagged(true);
+        assertEquals(1, realBoard.getFlagCount());
+        realBoard.getBox(0, 0).setFlagged(false);
+        assertEquals(0, realBoard.getFlagCount());
+
+        // Revelar todas las casillas seguras deja el contador en cero
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                if (!realBoard.getBox(i, j).isMine()) {
+                    realBoard.revealAdjacent(i, j);
+                }
+            }
+        }
+        assertEquals(0, realBoard.getHiddenSafeCount());
+        assertTrue(realBoard.allNonMinedBoxesRevealed());
+    }
+}
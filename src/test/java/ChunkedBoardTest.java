@@ -0,0 +1,150 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import examen.models.ChunkedBoard;
+import examen.models.SampledMinePlacer;
+import examen.models.StandardBoardValidator;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedBoardTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testChunksAreDeterministicForSeed() {
+        ChunkedBoard first = new ChunkedBoard(42, 600, tempDir.resolve("a"));
+        ChunkedBoard second = new ChunkedBoard(42, 600, tempDir.resolve("b"));
+        ChunkedBoard other = new ChunkedBoard(43, 600, tempDir.resolve("c"));
+
+        int mines = 0;
+        boolean differs = false;
+        for (long row = -70; row < 70; row++) {
+            for (long col = 100_000_000_000L; col < 100_000_000_064L; col++) {
+                assertEquals(first.isMine(row, col), second.isMine(row, col));
+                differs |= first.isMine(row, col) != other.isMine(row, col);
+                mines += first.isMine(row, col) ? 1 : 0;
+            }
+        }
+        assertTrue(differs);
+        assertTrue(mines > 0);
+    }
+
+    @Test
+    void testAdjacencyCrossesChunkBorders() {
+        ChunkedBoard board = new ChunkedBoard(7, 800, tempDir);
+        for (long row = 60; row < 70; row++) {
+            for (long col = -3; col < 3; col++) {
+                int expected = 0;
+                for (long r = row - 1; r <= row + 1; r++) {
+                    for (long c = col - 1; c <= col + 1; c++) {
+                        if ((r != row || c != col) && board.isMine(r, c)) {
+                            expected++;
+                        }
+                    }
+                }
+                assertEquals(expected, board.getAdjacentMines(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testEvictedChunksKeepTheirState() {
+        ChunkedBoard board = new ChunkedBoard(5, 500, tempDir, 2, new SampledMinePlacer());
+        ChunkedBoard reference = new ChunkedBoard(5, 500, tempDir.resolve("reference"));
+        long[] safe = findSafeCell(board, 0, 0);
+        int revealed = board.reveal(safe[0], safe[1]);
+        assertEquals(revealed, reference.reveal(safe[0], safe[1]));
+        assertTrue(board.setFlagged(-1_000, 5_000, true));
+
+        for (long chunk = 0; chunk < 10; chunk++) {
+            board.isMine(chunk * 64, 100_000); // Fuerza la expulsión de los bloques anteriores.
+        }
+        assertTrue(board.getEvictionCount() > 0);
+        assertTrue(board.getSpillCount() >= 2);
+        assertTrue(board.getLoadedChunkCount() <= 2);
+
+        assertTrue(board.isFlagged(-1_000, 5_000));
+        assertEquals(1, board.getFlagCount());
+        assertEquals(revealed, board.getRevealedCount());
+        for (long row = safe[0] - 70; row < safe[0] + 70; row++) {
+            for (long col = safe[1] - 70; col < safe[1] + 70; col++) {
+                assertEquals(reference.glyphAt(row, col), board.glyphAt(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testBoardsSharingSpillDirectoryKeepTheirOwnChunks() {
+        ChunkedBoard first = new ChunkedBoard(5, 500, tempDir, 2, new SampledMinePlacer());
+        ChunkedBoard second = new ChunkedBoard(6, 500, tempDir, 2, new SampledMinePlacer());
+        ChunkedBoard reference = new ChunkedBoard(5, 500, tempDir.resolve("reference"));
+        assertTrue(first.setFlagged(3, 3, true));
+        assertTrue(second.setFlagged(10, 10, true));
+
+        for (long chunk = 0; chunk < 4; chunk++) {
+            first.isMine(chunk * 64, 100_000); // Expulsa el bloque (0, 0) de ambos tableros.
+            second.isMine(chunk * 64, 100_000);
+        }
+        assertTrue(first.getSpillCount() > 0 && second.getSpillCount() > 0);
+
+        assertTrue(first.isFlagged(3, 3));
+        assertFalse(first.isFlagged(10, 10));
+        for (long row = 0; row < 64; row++) {
+            for (long col = 0; col < 64; col++) {
+                assertEquals(reference.isMine(row, col), first.isMine(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testRevealStopsAtCascadeLimit() {
+        ChunkedBoard board = new ChunkedBoard(9, 1, tempDir);
+        long[] safe = findSafeCell(board, 0, 0);
+
+        assertEquals(5_000, board.reveal(safe[0], safe[1], 5_000));
+        assertEquals(5_000, board.getRevealedCount());
+    }
+
+    @Test
+    void testInterruptedCascadeContinuesFromRevealedCell() {
+        ChunkedBoard board = new ChunkedBoard(9, 400, tempDir.resolve("limited"));
+        ChunkedBoard reference = new ChunkedBoard(9, 400, tempDir.resolve("reference"));
+        long[] safe = findSafeCell(board, 0, 0);
+        int total = reference.reveal(safe[0], safe[1]);
+        assertTrue(total > 5_000, "La región de referencia debe superar varias veces el límite");
+
+        int revealed = board.reveal(safe[0], safe[1], 5_000);
+        assertEquals(5_000, revealed);
+        assertTrue(board.getPendingCascadeCells() > 0);
+        assertTrue(board.getPendingCascadeCells() <= 5_000, "La pila no supera las casillas reveladas");
+        while (board.getPendingCascadeCells() > 0) {
+            revealed += board.reveal(safe[0], safe[1], 5_000); // La casilla ya está revelada.
+        }
+
+        assertEquals(total, revealed);
+        assertEquals(reference.getRevealedCount(), board.getRevealedCount());
+        for (long row = safe[0] - 64; row < safe[0] + 64; row++) {
+            for (long col = safe[1] - 64; col < safe[1] + 64; col++) {
+                assertEquals(reference.glyphAt(row, col), board.glyphAt(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testValidatorDoesNotOverflow() {
+        StandardBoardValidator validator = new StandardBoardValidator();
+        validator.validate(65_536, 65_536, 1_000); // 2^32 casillas: en int el producto era 0.
+        assertThrows(IllegalArgumentException.class, () -> validator.validate(2, 2, 5));
+    }
+
+    private long[] findSafeCell(ChunkedBoard board, long row, long col) {
+        for (long c = col; ; c++) {
+            if (!board.isMine(row, c) && board.getAdjacentMines(row, c) == 0) {
+                return new long[] { row, c };
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.BoardInterfaces.IMineStrategy;
+import examen.models.Box;
+import examen.models.MinedBox;
+import examen.models.Player;
+import examen.models.Game;
+import examen.models.SlidingWindowAdjacentMineCalculator;
+import examen.repositories.BinaryGameStateManager;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeferredGenerationTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFirstRevealIsNeverAMine() {
+        for (long seed = 1; seed <= 30; seed++) {
+            for (boolean compact : new boolean[] { false, true }) {
+                Board board = createBoard(seed, compact);
+                assertTrue(board.isMinesPending());
+                assertEquals(0, countMines(board));
+
+                Random clicks = new Random(seed);
+                int row = clicks.nextInt(9);
+                int col = clicks.nextInt(9);
+                board.revealAdjacent(row, col);
+
+                assertFalse(board.isMinesPending());
+                assertEquals(10, countMines(board));
+                for (int r = Math.max(0, row - 1); r <= Math.min(8, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(8, col + 1); c++) {
+                        assertFalse(board.getBox(r, c) instanceof MinedBox, "Semilla " + seed + " en " + r + "," + c);
+                    }
+                }
+                assertTrue(board.getBox(row, col).isRevealed());
+                assertEquals(0, board.getBox(row, col).getAdjacentMines());
+            }
+        }
+    }
+
+    @Test
+    void testStrategiesMayReadCellStateOutsideTheSafeZone() {
+        // Estrategia que además de las minas consulta el resto del estado de las celdas.
+        IMineStrategy inspecting = new IMineStrategy() {
+            @Override
+            public void placeMines(Box[][] boxes, int totalMines, Random random) {
+                throw new AssertionError("El modo diferido coloca las minas en el almacenamiento");
+            }
+
+            @Override
+            public void placeMinesInStorage(ICellStorage storage, int totalMines, Random random) {
+                for (int col = 0; col < storage.getColumns(); col++) {
+                    assertFalse(storage.isRevealed(0, col));
+                    assertFalse(storage.isFlagged(0, col));
+                    storage.setAdjacentMines(0, col, storage.getAdjacentMines(0, col));
+                }
+                IMineStrategy.super.placeMinesInStorage(storage, totalMines, random);
+            }
+        };
+        Board board = Board.builder().rows(9).columns(9).totalMines(10).storageFactory(BitBoardStorage::new)
+                .deferredGeneration(true).mineStrategy(inspecting).random(new Random(3)).build();
+        board.generateBoard();
+        board.revealAdjacent(4, 4);
+
+        assertEquals(10, countMines(board));
+        assertFalse(board.getBox(4, 4) instanceof MinedBox);
+    }
+
+    @Test
+    void testLazyAdjacencyMatchesFullCalculation() {
+        Board board = Board.builder().rows(40).columns(70).totalMines(500)
+                .storageFactory(BitBoardStorage::new).deferredGeneration(true).random(new Random(7)).build();
+        board.generateBoard();
+        board.revealAdjacent(20, 35);
+
+        BitBoardStorage expected = BitBoardStorage.copyOf(board.getCells());
+        new SlidingWindowAdjacentMineCalculator().calculateAdjacentMinesInStorage(expected);
+        for (int row = 0; row < 40; row++) {
+            for (int col = 0; col < 70; col++) {
+                assertEquals(expected.getAdjacentMines(row, col), board.getCells().getAdjacentMines(row, col));
+            }
+        }
+    }
+
+    @Test
+    void testCrowdedBoardOnlyProtectsClickedCell() {
+        Board board = Board.builder().rows(3).columns(3).totalMines(8)
+                .deferredGeneration(true).random(new Random(3)).build();
+        board.generateBoard();
+        board.revealAdjacent(1, 1);
+
+        assertEquals(8, countMines(board));
+        assertFalse(board.getBox(1, 1) instanceof MinedBox);
+        assertTrue(board.allNonMinedBoxesRevealed());
+    }
+
+    @Test
+    void testFlagsBeforeFirstRevealAreKept() {
+        Board board = createBoard(5, false);
+        board.getBox(8, 8).setFlagged(true);
+        board.revealAdjacent(0, 0);
+
+        assertTrue(board.getBox(8, 8).isFlagged());
+        assertEquals(1, board.getFlagCount());
+    }
+
+    @Test
+    void testSavedBeforeFirstRevealStaysDeferred() {
+        BinaryGameStateManager manager = new BinaryGameStateManager(tempDir.resolve("state.bin"), true);
+        Board board = createBoard(11, true);
+        manager.saveGameState(Game.builder().board(board).player(Player.builder().name("Jugador").build()).build());
+
+        Board loaded = manager.loadGameState().getGame().getBoard();
+        assertTrue(loaded.isMinesPending());
+        loaded.revealAdjacent(4, 4);
+        assertEquals(10, countMines(loaded));
+        assertFalse(loaded.getBox(4, 4) instanceof MinedBox);
+    }
+
+    @Test
+    void testRelocationMovesMinesOutOfTheFirstClickZone() {
+        for (long seed = 1; seed <= 30; seed++) {
+            for (boolean compact : new boolean[] { false, true }) {
+                Board.BoardBuilder builder = Board.builder().rows(9).columns(9).totalMines(30).seed(seed)
+                        .firstClickRelocation(true);
+                if (compact) {
+                    builder.storageFactory(BitBoardStorage::new);
+                }
+                Board board = builder.build();
+                board.generateBoard();
+                assertFalse(board.isMinesPending());
+                assertEquals(30, countMines(board));
+
+                Random clicks = new Random(seed);
+                int row = clicks.nextInt(9);
+                int col = clicks.nextInt(9);
+                board.revealAdjacent(row, col);
+
+                assertEquals(30, countMines(board));
+                assertEquals(row * 9 + col, board.getSafeCell());
+                for (int r = Math.max(0, row - 1); r <= Math.min(8, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(8, col + 1); c++) {
+                        assertFalse(board.getBox(r, c) instanceof MinedBox, "Semilla " + seed + " en " + r + "," + c);
+                    }
+                }
+                BitBoardStorage expected = BitBoardStorage.copyOf(board.getCells());
+                new SlidingWindowAdjacentMineCalculator().calculateAdjacentMinesInStorage(expected);
+                for (int r = 0; r < 9; r++) {
+                    for (int c = 0; c < 9; c++) {
+                        if (!expected.isMine(r, c)) {
+                            assertEquals(expected.getAdjacentMines(r, c), board.getBox(r, c).getAdjacentMines());
+                        }
+                    }
+                }
+                assertEquals(81 - 30, board.getHiddenSafeCount() + countRevealed(board));
+            }
+        }
+    }
+
+    @Test
+    void testRelocatedMinesStayUniform() {
+        int games = 3_000;
+        int[] mines = new int[16 * 30];
+        for (long seed = 1; seed <= games; seed++) {
+            Board board = Board.builder().rows(16).columns(30).totalMines(99).seed(seed)
+                    .firstClickRelocation(true).storageFactory(BitBoardStorage::new).build();
+            board.generateBoard();
+            board.commitDeferredMines(8, 15);
+            for (int cell = 0; cell < mines.length; cell++) {
+                mines[cell] += board.getCells().isMine(cell / 30, cell % 30) ? 1 : 0;
+            }
+        }
+        double expected = 99.0 / (16 * 30 - 9); // Uniforme entre las casillas fuera de la zona.
+        for (int cell = 0; cell < mines.length; cell++) {
+            int row = cell / 30;
+            int col = cell % 30;
+            double frequency = (double) mines[cell] / games;
+            if (Math.abs(row - 8) <= 1 && Math.abs(col - 15) <= 1) {
+                assertEquals(0.0, frequency);
+            } else {
+                assertEquals(expected, frequency, 0.05, "Casilla " + row + "," + col);
+            }
+        }
+    }
+
+    @Test
+    void testRelocatedBoardIsRestoredFromSeed() {
+        BinaryGameStateManager manager = new BinaryGameStateManager(tempDir.resolve("state.bin"), true);
+        Board board = Board.builder().rows(16).columns(30).totalMines(170).seed(6L).firstClickRelocation(true)
+                .build();
+        board.generateBoard();
+        Game game = Game.builder().board(board).player(Player.builder().name("Jugador").build()).build();
+        manager.saveGameState(game);
+        assertTrue(manager.loadGameState().getGame().getBoard().isRelocationPending());
+
+        board.revealAdjacent(8, 15);
+        manager.saveGameState(game);
+        Board loaded = manager.loadGameState().getGame().getBoard();
+        assertFalse(loaded.isRelocationPending());
+        for (int row = 0; row < 16; row++) {
+            for (int col = 0; col < 30; col++) {
+                assertEquals(board.getBox(row, col) instanceof MinedBox, loaded.getBox(row, col) instanceof MinedBox);
+                assertEquals(board.getBox(row, col).isRevealed(), loaded.getBox(row, col).isRevealed());
+            }
+        }
+    }
+
+    private Board createBoard(long seed, boolean compact) {
+        Board.BoardBuilder builder = Board.builder().rows(9).columns(9).totalMines(10)
+                .deferredGeneration(true).random(new Random(seed));
+        if (compact) {
+            builder.storageFactory(BitBoardStorage::new);
+        }
+        Board board = builder.build();
+        board.generateBoard();
+        return board;
+    }
+
+    private int countRevealed(Board board) {
+        int revealed = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getColumns(); col++) {
+                revealed += board.getBox(row, col).isRevealed() ? 1 : 0;
+            }
+        }
+        return revealed;
+    }
+
+    private int countMines(Board board) {
+        int mines = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getColumns(); col++) {
+                if (board.getBox(row, col) instanceof MinedBox) {
+                    mines++;
+                }
+            }
+        }
+        return mines;
+    }
+}
@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.MinedBox;
+import examen.solver.DeterministicSolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeterministicSolverTest {
+
+    @Test
+    void testDeductionsOnExpertBoardsAreSound() {
+        long solvedCells = 0;
+        for (long seed = 1; seed <= 20; seed++) {
+            Board board = Board.builder().rows(16).columns(30).totalMines(99).seed(seed)
+                    .deferredGeneration(true).build();
+            board.generateBoard();
+            board.revealAdjacent(8, 15);
+            DeterministicSolver solver = new DeterministicSolver(board);
+
+            solver.solve();
+            for (int index = solver.pollSafe(); index >= 0; index = solver.pollSafe()) {
+                int row = index / 30;
+                int col = index % 30;
+                assertFalse(board.getBox(row, col) instanceof MinedBox, "Casilla segura con mina");
+                BoardDelta delta = new BoardDelta(30);
+                board.revealAdjacent(row, col, delta);
+                solver.update(delta);
+                solver.solve();
+            }
+
+            for (int row = 0; row < 16; row++) {
+                for (int col = 0; col < 30; col++) {
+                    if (solver.isKnownMine(row, col)) {
+                        assertTrue(board.getBox(row, col) instanceof MinedBox, "Mina deducida sin mina");
+                    }
+                }
+            }
+            solvedCells += solver.getDeductions();
+        }
+        assertTrue(solvedCells > 0);
+    }
+
+    @Test
+    void testOneTwoOnePatternIsSolved() {
+        // Fila superior oculta con minas en las columnas 0 y 2; la inferior revelada muestra 1-2-1.
+        BitBoardStorage cells = new BitBoardStorage(2, 3);
+        cells.setMine(0, 0, true);
+        cells.setMine(0, 2, true);
+        cells.setAdjacentMines(1, 0, 1);
+        cells.setAdjacentMines(1, 1, 2);
+        cells.setAdjacentMines(1, 2, 1);
+        for (int col = 0; col < 3; col++) {
+            cells.setRevealed(1, col, true);
+        }
+
+        DeterministicSolver solver = new DeterministicSolver(cells, false);
+        assertEquals(3, solver.solve());
+
+        assertTrue(solver.isKnownMine(0, 0));
+        assertTrue(solver.isKnownSafe(0, 1));
+        assertTrue(solver.isKnownMine(0, 2));
+        assertEquals(2, solver.getKnownMineCount());
+        assertEquals(1, solver.pollSafe());
+        assertEquals(-1, solver.pollSafe());
+    }
+
+    @Test
+    void testFlagsAreIgnoredUnlessTrusted() {
+        BitBoardStorage cells = new BitBoardStorage(1, 3);
+        cells.setMine(0, 0, true);
+        cells.setAdjacentMines(0, 1, 1);
+        cells.setRevealed(0, 1, true);
+        cells.setFlagged(0, 0, true);
+
+        assertEquals(0, new DeterministicSolver(cells, false).solve());
+
+        DeterministicSolver trusting = new DeterministicSolver(cells, true);
+        trusting.solve();
+        assertTrue(trusting.isKnownSafe(0, 2));
+        assertEquals(2, trusting.pollSafe());
+    }
+}
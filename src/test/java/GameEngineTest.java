@@ -0,0 +1,162 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.Game;
+import examen.models.GameEngine;
+import examen.models.GameEngine.MoveResult;
+import examen.models.GameEngine.Outcome;
+import examen.models.GameEngine.Status;
+import examen.models.MinedBox;
+import examen.models.Player;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    @Test
+    void testRevealingEverySafeCellWinsTheGame() {
+        GameEngine engine = new GameEngine(createGame(6, 6, 4, 1));
+        Board board = engine.getGame().getBoard();
+
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (!(board.getBox(row, col) instanceof MinedBox) && !board.getBox(row, col).isRevealed()) {
+                    assertEquals(Outcome.REVEALED, engine.reveal(row, col).getOutcome());
+                }
+            }
+        }
+
+        assertEquals(Status.WON, engine.status());
+        assertEquals(Outcome.GAME_OVER, engine.reveal(0, 0).getOutcome());
+    }
+
+    @Test
+    void testHittingAMineLosesTheGame() {
+        GameEngine engine = new GameEngine(createGame(6, 6, 4, 2));
+        int[] mine = findMine(engine.getGame().getBoard());
+
+        MoveResult result = engine.reveal(mine[0], mine[1]);
+
+        assertEquals(Outcome.MINE_HIT, result.getOutcome());
+        assertEquals(Status.LOST, result.getStatus());
+    }
+
+    @Test
+    void testFlagRules() {
+        GameEngine engine = new GameEngine(createGame(4, 4, 1, 3));
+
+        assertEquals(Outcome.OUT_OF_RANGE, engine.toggleFlag(4, 0).getOutcome());
+        assertEquals(Outcome.FLAGGED, engine.toggleFlag(0, 0).getOutcome());
+        assertEquals(Outcome.NO_FLAGS_LEFT, engine.toggleFlag(0, 1).getOutcome());
+        assertEquals(Outcome.UNFLAGGED, engine.toggleFlag(0, 0).getOutcome());
+        assertEquals(0, engine.getGame().getBoard().getFlagCount());
+    }
+
+    @Test
+    void testRevealDeltaListsExactlyTheNewlyRevealedCells() {
+        GameEngine engine = new GameEngine(createGame(30, 40, 60, 4));
+        Board board = engine.getGame().getBoard();
+        int[] zero = findZero(board);
+        int flaggedCol = zero[1] < 39 ? zero[1] + 1 : zero[1] - 1; // Vecina de un cero: nunca es mina.
+        board.getBox(zero[0], flaggedCol).setFlagged(true);
+        boolean[] before = revealedCells(board);
+
+        MoveResult result = engine.reveal(zero[0], zero[1]);
+        BoardDelta delta = result.getDelta();
+
+        boolean[] after = revealedCells(board);
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < after.length; i++) {
+            if (after[i] && !before[i]) {
+                expected.add(i);
+            }
+        }
+        Set<Integer> actual = new HashSet<>();
+        for (int index : delta.toArray()) {
+            actual.add(index);
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), delta.getRevealedCount());
+        assertEquals(delta.getRevealedCount(), delta.getChangedCount());
+        assertEquals(1, delta.getFlagsRemoved());
+        assertEquals(1, result.getFlagsRemoved());
+    }
+
+    @Test
+    void testRevealDeltaIsStreamedInBoundedChunks() {
+        Board board = Board.builder().rows(200).columns(200).totalMines(1).random(new Random(6))
+                .storageFactory(BitBoardStorage::new).build();
+        board.generateBoard();
+        GameEngine engine = new GameEngine(Game.builder().board(board)
+                .player(Player.builder().name("Bot").build()).build());
+        int[] zero = findZero(board);
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        MoveResult result = engine.reveal(zero[0], zero[1], (indices, length) -> chunkSizes.add(length));
+
+        assertFalse(result.getDelta().isRetained());
+        assertTrue(chunkSizes.size() > 1, "Una cascada grande se entrega en varios bloques");
+        assertTrue(chunkSizes.stream().allMatch(size -> size <= BoardDelta.DEFAULT_CHUNK_SIZE));
+        assertEquals(200 * 200 - 1, chunkSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(Status.WON, result.getStatus());
+    }
+
+    @Test
+    void testFlagDeltaContainsSingleCell() {
+        GameEngine engine = new GameEngine(createGame(4, 5, 2, 3));
+
+        BoardDelta placed = engine.toggleFlag(2, 3).getDelta();
+        assertArrayEquals(new int[] { 2 * 5 + 3 }, placed.toArray());
+        assertEquals(1, placed.getFlagsPlaced());
+
+        BoardDelta removed = engine.toggleFlag(2, 3).getDelta();
+        assertEquals(1, removed.getFlagsRemoved());
+        assertNull(engine.toggleFlag(9, 9).getDelta());
+    }
+
+    private int[] findZero(Board board) {
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getColumns(); col++) {
+                if (!(board.getBox(row, col) instanceof MinedBox) && board.getCells().getAdjacentMines(row, col) == 0) {
+                    return new int[] { row, col };
+                }
+            }
+        }
+        throw new IllegalStateException("Sin ceros");
+    }
+
+    private boolean[] revealedCells(Board board) {
+        boolean[] revealed = new boolean[board.getRows() * board.getColumns()];
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getColumns(); col++) {
+                revealed[row * board.getColumns() + col] = board.getBox(row, col).isRevealed();
+            }
+        }
+        return revealed;
+    }
+
+    private Game createGame(int rows, int columns, int mines, long seed) {
+        Board board = Board.builder().rows(rows).columns(columns).totalMines(mines).random(new Random(seed)).build();
+        board.generateBoard();
+        return Game.builder().board(board).player(Player.builder().name("Bot").build()).build();
+    }
+
+    private int[] findMine(Board board) {
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getColumns(); col++) {
+                if (board.getBox(row, col) instanceof MinedBox) {
+                    return new int[] { row, col };
+                }
+            }
+        }
+        throw new IllegalStateException("Sin minas");
+    }
+}
@@ -166,6 +166,28 @@ class GameStateManagerTest {
         assertEquals(2, ((EmptyBox)boxes[2][2]).getAdjacentMines());
     }
 
+    @Test
+    void testRelocationSurvivesSaveBeforeFirstReveal() {
+        Board board = Board.builder().rows(16).columns(30).totalMines(99).seed(6L).firstClickRelocation(true).build();
+        board.generateBoard();
+        board.getBox(0, 0).setFlagged(true);
+        GameStateManager.saveGameState(Game.builder().board(board)
+                .player(Player.builder().name("TestPlayer").build()).build());
+
+        Board loaded = GameStateManager.loadGameState().getGame().getBoard();
+        assertTrue(loaded.isFirstClickRelocation());
+        assertTrue(loaded.isRelocationPending());
+        assertTrue(loaded.getBox(0, 0).isFlagged());
+
+        int mine = 0;
+        while (!loaded.getBox(mine / 30, mine % 30).isMine()) {
+            mine++;
+        }
+        loaded.revealAdjacent(mine / 30, mine % 30);
+        assertFalse(loaded.getBox(mine / 30, mine % 30).isMine());
+        assertTrue(loaded.getBox(mine / 30, mine % 30).isRevealed());
+    }
+
     @Test
     void testLoadGameStateWithNonExistentFile() {
         // Ensure no file exists
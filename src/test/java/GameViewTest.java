@@ -120,10 +120,36 @@ class GameViewTest {
         assertTrue(outputStream.toString().contains("Player1"));
     }
 
+    @Test
+    void testPromptForMinesAcceptsLargeBoards() {
+        gameView = createGameViewWithInput("1000000\n");
+        // 100000 * 100000 desborda un int; el límite debe compararse como long.
+        assertEquals(1000000, gameView.promptForMines("Player1", 100000, 100000));
+    }
+
+    @Test
+    void testPromptActionListsViewportActions() {
+        gameView = createGameViewWithInput("W\n");
+        assertEquals("W", gameView.promptAction("Player1"));
+        assertTrue(outputStream.toString().contains("W/A/S/D"));
+        assertTrue(outputStream.toString().contains("I para ir"));
+    }
+
     @Test
     void testShowInvalidActionMessage() {
         gameView = new GameView(scanner);
         gameView.showInvalidActionMessage();
         assertTrue(outputStream.toString().contains("Acción inválida"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseCoordinatesSupportsMultiLetterRows() {
+        assertArrayEquals(new int[] { 1, 2 }, GameView.parseCoordinates("b3"));
+        assertArrayEquals(new int[] { 26, 0 }, GameView.parseCoordinates("AA1"));
+        assertArrayEquals(new int[] { 701, 9 }, GameView.parseCoordinates("ZZ10"));
+        assertArrayEquals(new int[] { 702, 0 }, GameView.parseCoordinates("AAA1"));
+        assertNull(GameView.parseCoordinates("AB"));
+        assertNull(GameView.parseCoordinates("12"));
+        assertNull(GameView.parseCoordinates("A1B"));
+    }
+}
@@ -0,0 +1,113 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import examen.models.Board;
+import examen.models.Game;
+import examen.models.MinedBox;
+import examen.models.Player;
+import examen.repositories.BinaryGameStateManager;
+import examen.repositories.JournaledGameStateManager;
+import examen.repositories.GamePersistenceInterface.IGameLoadResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournaledGameStateManagerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMovesAreAppendedAndReplayed() throws IOException {
+        Path journal = tempDir.resolve("state.journal");
+        JournaledGameStateManager manager = new JournaledGameStateManager(tempDir.resolve("state.bin"), journal, 100);
+        Game game = createGame();
+        Board board = game.getBoard();
+        manager.saveGameState(game);
+
+        board.getBox(0, 0).setFlagged(true);
+        manager.saveMove(game, 0, 0);
+        int[] safe = findSafeCell(board);
+        board.revealAdjacent(safe[0], safe[1]);
+        manager.saveMove(game, safe[0], safe[1]);
+        manager.closeJournal();
+
+        assertEquals(12 + 18, Files.size(journal), "Cabecera y un registro de tamaño fijo por jugada");
+
+        IGameLoadResult result = new JournaledGameStateManager(tempDir.resolve("state.bin"), journal, 100)
+                .loadGameState();
+        assertNotNull(result);
+        Board loaded = result.getGame().getBoard();
+        assertEquals(board.getHiddenSafeCount(), loaded.getHiddenSafeCount());
+        assertEquals(board.getFlagCount(), loaded.getFlagCount());
+        assertEquals(board.getBox(0, 0).isFlagged(), loaded.getBox(0, 0).isFlagged());
+        assertTrue(loaded.getBox(safe[0], safe[1]).isRevealed());
+    }
+
+    @Test
+    void testSnapshotCompactsJournal() throws IOException {
+        Path journal = tempDir.resolve("state.journal");
+        JournaledGameStateManager manager = new JournaledGameStateManager(tempDir.resolve("state.bin"), journal, 3);
+        Game game = createGame();
+        manager.saveGameState(game);
+
+        for (int i = 0; i < 3; i++) {
+            game.getBoard().getBox(0, i).setFlagged(true);
+            manager.saveMove(game, 0, i);
+        }
+        manager.closeJournal();
+
+        assertEquals(12, Files.size(journal), "Solo queda la cabecera");
+        IGameLoadResult result = manager.loadGameState();
+        assertEquals(3, result.getGame().getBoard().getFlagCount());
+        manager.clearGameState();
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    void testStaleJournalIsNotReplayedOverNewerSnapshot() throws IOException {
+        Path snapshot = tempDir.resolve("state.bin");
+        Path journal = tempDir.resolve("state.journal");
+        JournaledGameStateManager manager = new JournaledGameStateManager(snapshot, journal, 100);
+        Game game = createGame();
+        Board board = game.getBoard();
+        manager.saveGameState(game);
+
+        int[] safe = findSafeCell(board);
+        board.getBox(safe[0], safe[1]).setFlagged(true);
+        manager.saveMove(game, safe[0], safe[1]);
+        board.revealAdjacent(safe[0], safe[1]);
+        manager.saveMove(game, safe[0], safe[1]);
+        manager.closeJournal();
+        // Instantánea con las jugadas ya aplicadas y caída antes de compactar el diario.
+        new BinaryGameStateManager(snapshot, true).saveGameState(game);
+
+        JournaledGameStateManager restarted = new JournaledGameStateManager(snapshot, journal, 100);
+        Board loaded = restarted.loadGameState().getGame().getBoard();
+        assertTrue(loaded.getBox(safe[0], safe[1]).isRevealed());
+        assertFalse(loaded.getBox(safe[0], safe[1]).isFlagged());
+        assertEquals(board.getFlagCount(), loaded.getFlagCount());
+        restarted.closeJournal();
+        assertEquals(12, Files.size(journal), "El diario ajeno se descarta");
+    }
+
+    private Game createGame() {
+        Board board = Board.builder().rows(8).columns(8).totalMines(10).random(new Random(11)).build();
+        board.generateBoard();
+        return Game.builder().board(board).player(Player.builder().name("Jugador").build()).build();
+    }
+
+    private int[] findSafeCell(Board board) {
+        for (int row = 7; row >= 0; row--) {
+            for (int col = 7; col >= 0; col--) {
+                if (!(board.getBox(row, col) instanceof MinedBox) && !board.getBox(row, col).isFlagged()) {
+                    return new int[] { row, col };
+                }
+            }
+        }
+        throw new IllegalStateException("Sin casillas seguras");
+    }
+}
@@ -0,0 +1,132 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import examen.models.Board;
+import examen.models.Game;
+import examen.models.MappedCellStorage;
+import examen.models.MinedBox;
+import examen.models.Player;
+import examen.repositories.GamePersistenceInterface.IGameLoadResult;
+import examen.repositories.MappedGameStateManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGameStateManagerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBoardLivesInTheSaveFile() throws IOException {
+        Path file = tempDir.resolve("state.map");
+        MappedGameStateManager manager = new MappedGameStateManager(file);
+        Board board = Board.builder().rows(30).columns(70).totalMines(200)
+                .storageFactory(manager.storageFactory()).random(new Random(3)).build();
+        board.generateBoard();
+        assertTrue(board.getStorage() instanceof MappedCellStorage);
+        assertEquals(MappedCellStorage.fileSize(30, 70, 256), Files.size(file));
+
+        Game game = Game.builder().board(board).player(Player.builder().name("Jugador").build()).build();
+        board.getBox(0, 1).setFlagged(true);
+        board.revealAdjacent(safeCell(board) / 70, safeCell(board) % 70);
+        manager.saveGameState(game);
+
+        IGameLoadResult result = new MappedGameStateManager(file).loadGameState();
+        assertNotNull(result);
+        assertEquals("Jugador", result.getGame().getPlayer().getName());
+        assertSameCells(board, result.getGame().getBoard());
+    }
+
+    @Test
+    void testCopiesBoardsWithOtherStorage() {
+        Path file = tempDir.resolve("state.map");
+        MappedGameStateManager manager = new MappedGameStateManager(file);
+        Board board = Board.builder().rows(9).columns(12).totalMines(20).random(new Random(8)).build();
+        board.generateBoard();
+        board.getBox(3, 3).setFlagged(true);
+        board.revealAdjacent(safeCell(board) / 12, safeCell(board) % 12);
+
+        manager.saveGameState(Game.builder().board(board).player(Player.builder().name("Ana").build()).build());
+
+        Board loaded = manager.loadGameState().getGame().getBoard();
+        assertSameCells(board, loaded);
+        assertEquals(board.getFlagCount(), loaded.getFlagCount());
+        assertEquals(board.getHiddenSafeCount(), loaded.getHiddenSafeCount());
+    }
+
+    @Test
+    void testCopiedBoardMovesIntoTheSaveFile() throws IOException {
+        Path file = tempDir.resolve("state.map");
+        MappedGameStateManager manager = new MappedGameStateManager(file);
+        Board board = Board.builder().rows(9).columns(12).totalMines(20).random(new Random(8)).build();
+        board.generateBoard();
+        Game game = Game.builder().board(board).player(Player.builder().name("Ana").build()).build();
+
+        manager.saveGameState(game);
+        assertTrue(board.getStorage() instanceof MappedCellStorage);
+        Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        MappedCellStorage storage = (MappedCellStorage) board.getStorage();
+
+        board.revealAdjacent(safeCell(board) / 12, safeCell(board) % 12);
+        manager.saveGameState(game);
+        assertSame(storage, board.getStorage());
+        assertEquals(fileKey, Files.readAttributes(file, BasicFileAttributes.class).fileKey(), "Sin copia nueva");
+        assertSameCells(board, new MappedGameStateManager(file).loadGameState().getGame().getBoard());
+    }
+
+    @Test
+    void testRelocationSurvivesSaveBeforeFirstReveal() {
+        Path file = tempDir.resolve("state.map");
+        MappedGameStateManager manager = new MappedGameStateManager(file);
+        Board board = Board.builder().rows(16).columns(30).totalMines(99).seed(4L).firstClickRelocation(true)
+                .storageFactory(manager.storageFactory()).build();
+        board.generateBoard();
+        manager.saveGameState(Game.builder().board(board).player(Player.builder().name("Ana").build()).build());
+
+        Board loaded = new MappedGameStateManager(file).loadGameState().getGame().getBoard();
+        assertTrue(loaded.isRelocationPending());
+    }
+
+    @Test
+    void testLoadRejectsMissingOrForeignFiles() throws IOException {
+        Path file = tempDir.resolve("state.map");
+        MappedGameStateManager manager = new MappedGameStateManager(file);
+        assertNull(manager.loadGameState());
+
+        Files.write(file, new byte[300]);
+        assertNull(manager.loadGameState());
+
+        manager.clearGameState();
+        assertFalse(Files.exists(file));
+    }
+
+    private static int safeCell(Board board) {
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getColumns(); col++) {
+                if (!(board.getBox(row, col) instanceof MinedBox) && board.getBox(row, col).getAdjacentMines() == 0) {
+                    return row * board.getColumns() + col;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static void assertSameCells(Board expected, Board actual) {
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getColumns(), actual.getColumns());
+        assertEquals(expected.getTotalMines(), actual.getTotalMines());
+        for (int row = 0; row < expected.getRows(); row++) {
+            for (int col = 0; col < expected.getColumns(); col++) {
+                assertEquals(expected.getBox(row, col) instanceof MinedBox, actual.getBox(row, col) instanceof MinedBox);
+                assertEquals(expected.getBox(row, col).isRevealed(), actual.getBox(row, col).isRevealed());
+                assertEquals(expected.getBox(row, col).isFlagged(), actual.getBox(row, col).isFlagged());
+                assertEquals(expected.getBox(row, col).getAdjacentMines(), actual.getBox(row, col).getAdjacentMines());
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.MinedBox;
+import examen.models.ParallelBoardGenerator;
+import examen.models.SlidingWindowAdjacentMineCalculator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBoardGeneratorTest {
+
+    @Test
+    void testSameSeedGivesSameBoardForAnyParallelism() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int columns : new int[] { 37, 64, 100 }) {
+                BitBoardStorage sequential = generate(new ParallelBoardGenerator(99, null, 500), 300, columns, 9_000);
+                for (int run = 0; run < 5; run++) {
+                    BitBoardStorage parallel = generate(new ParallelBoardGenerator(99, pool, 500), 300, columns, 9_000);
+                    assertArrayEquals(sequential.getMinePlane(), parallel.getMinePlane());
+                    assertArrayEquals(sequential.getAdjacencyPlane(), parallel.getAdjacencyPlane());
+                }
+                BitBoardStorage other = generate(new ParallelBoardGenerator(100, pool, 500), 300, columns, 9_000);
+                assertFalse(Arrays.equals(sequential.getMinePlane(), other.getMinePlane()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testMineCountAndAdjacencyAreExact() {
+        for (int mines : new int[] { 0, 1, 777, 11_999, 12_000 }) {
+            BitBoardStorage cells = generate(new ParallelBoardGenerator(5, ForkJoinPool.commonPool(), 300), 120, 100,
+                    mines);
+            assertEquals(mines, Arrays.stream(cells.getMinePlane()).map(Long::bitCount).sum());
+
+            BitBoardStorage expected = BitBoardStorage.copyOf(cells);
+            new SlidingWindowAdjacentMineCalculator().calculateAdjacentMinesInStorage(expected);
+            assertArrayEquals(expected.getAdjacencyPlane(), cells.getAdjacencyPlane());
+        }
+    }
+
+    @Test
+    void testBoardUsesParallelGeneratorInGridMode() {
+        Board board = Board.builder().rows(50).columns(30).totalMines(300)
+                .parallelGenerator(new ParallelBoardGenerator(8, ForkJoinPool.commonPool(), 200)).build();
+        board.generateBoard();
+
+        int mines = 0;
+        for (int row = 0; row < 50; row++) {
+            for (int col = 0; col < 30; col++) {
+                mines += board.getBox(row, col) instanceof MinedBox ? 1 : 0;
+            }
+        }
+        assertEquals(300, mines);
+        assertEquals(1500 - 300, board.getHiddenSafeCount());
+    }
+
+    @Test
+    void testSeededBoardMatchesExplicitParallelGenerator() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Board seeded = Board.builder().rows(300).columns(300).totalMines(12_000).seed(21L).build();
+            Board parallel = Board.builder().rows(300).columns(300).totalMines(12_000)
+                    .parallelGenerator(new ParallelBoardGenerator(21, pool, ParallelBoardGenerator.DEFAULT_BAND_CELLS))
+                    .build();
+            seeded.generateBoard();
+            parallel.generateBoard();
+
+            for (int row = 0; row < 300; row++) {
+                for (int col = 0; col < 300; col++) {
+                    assertEquals(seeded.getBox(row, col).getClass(), parallel.getBox(row, col).getClass());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testBandSizeDoesNotChangeTheBoard() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BitBoardStorage reference = generate(
+                    new ParallelBoardGenerator(31, null, ParallelBoardGenerator.DEFAULT_BAND_CELLS), 1_500, 100, 30_000);
+            for (int bandCells : new int[] { 64, 4_096, 1 << 20 }) {
+                BitBoardStorage cells = generate(new ParallelBoardGenerator(31, pool, bandCells), 1_500, 100, 30_000);
+                assertArrayEquals(reference.getMinePlane(), cells.getMinePlane(), "Franjas de " + bandCells);
+                assertArrayEquals(reference.getAdjacencyPlane(), cells.getAdjacencyPlane());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSeedOnlySaveRestoresBoardGeneratedWithSmallBands() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Board board = Board.builder().rows(900).columns(100).totalMines(15_000)
+                    .storageFactory(BitBoardStorage::new)
+                    .parallelGenerator(new ParallelBoardGenerator(12, pool, 4_096)).build();
+            board.generateBoard();
+            Board reloaded = Board.builder().rows(900).columns(100).totalMines(15_000)
+                    .storageFactory(BitBoardStorage::new).seed(board.getSeed()).build();
+            reloaded.generateBoard(); // Como BinaryGameStateManager con una partida guardada por semilla.
+
+            assertArrayEquals(((BitBoardStorage) board.getStorage()).getMinePlane(),
+                    ((BitBoardStorage) reloaded.getStorage()).getMinePlane());
+            assertEquals(board.getMetrics(), reloaded.getMetrics());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private BitBoardStorage generate(ParallelBoardGenerator generator, int rows, int columns, int mines) {
+        BitBoardStorage cells = new BitBoardStorage(rows, columns);
+        generator.generate(cells, mines);
+        return cells;
+    }
+}
@@ -0,0 +1,172 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardInterfaces.ICellStorage;
+import examen.models.MinedBox;
+import examen.solver.ProbabilityEngine;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProbabilityEngineTest {
+
+    @Test
+    void testMatchesBruteForceEnumeration() {
+        for (long seed = 1; seed <= 15; seed++) {
+            Board board = Board.builder().rows(4).columns(5).totalMines(4).seed(seed).build();
+            board.generateBoard();
+            revealSafeCells(board, seed);
+
+            ProbabilityEngine engine = new ProbabilityEngine(board);
+            engine.compute();
+            assertMatchesBruteForce(board, engine, seed);
+        }
+    }
+
+    @Test
+    void testLargeComponentsMatchBruteForceEnumeration() {
+        // Tras el primer clic la frontera rodea la cascada y forma componentes amplios.
+        for (long seed = 1; seed <= 10; seed++) {
+            Board board = Board.builder().rows(7).columns(7).totalMines(4).seed(seed).deferredGeneration(true).build();
+            board.generateBoard();
+            board.revealAdjacent(3, 3);
+
+            ProbabilityEngine engine = new ProbabilityEngine(board);
+            engine.compute();
+            assertMatchesBruteForce(board, engine, seed);
+        }
+    }
+
+    @Test
+    void testCellsOutsideFrontierShareRemainingMines() {
+        // Un 1 revelado en la esquina: su única mina está entre 3 vecinas.
+        BitBoardStorage cells = new BitBoardStorage(3, 3);
+        cells.setMine(0, 1, true);
+        cells.setAdjacentMines(0, 0, 1);
+        cells.setRevealed(0, 0, true);
+
+        ProbabilityEngine engine = new ProbabilityEngine(cells, 2);
+        engine.compute();
+
+        // Frontera: 1 mina en 3 casillas; la otra mina entre las 5 restantes.
+        assertEquals(1.0 / 3, engine.getMineProbability(1, 1), 1e-12);
+        assertEquals(1.0 / 5, engine.getMineProbability(2, 2), 1e-12);
+        assertEquals(0, engine.getMineProbability(0, 0));
+        assertEquals(2, engine.safestHiddenCell()); // Primera casilla fuera de la frontera.
+    }
+
+    @Test
+    void testUnchangedComponentsComeFromCache() {
+        Board board = Board.builder().rows(16).columns(30).totalMines(99).seed(3L).deferredGeneration(true).build();
+        board.generateBoard();
+        board.revealAdjacent(8, 15);
+
+        ProbabilityEngine engine = new ProbabilityEngine(board);
+        engine.compute();
+        long misses = engine.getCacheMisses();
+        assertTrue(engine.getComponentCount() > 0);
+
+        engine.compute();
+        assertEquals(misses, engine.getCacheMisses());
+        assertEquals(engine.getComponentCount(), engine.getCacheHits());
+    }
+
+    private static void assertMatchesBruteForce(Board board, ProbabilityEngine engine, long seed) {
+        int columns = board.getColumns();
+        double[] expected = bruteForce(board.getCells(), board.getTotalMines());
+        for (int index = 0; index < expected.length; index++) {
+            assertEquals(expected[index], engine.getMineProbability(index / columns, index % columns), 1e-9,
+                    "Semilla " + seed + ", celda " + index);
+        }
+    }
+
+    /**
+     * Revela casillas sin mina elegidas con la semilla hasta dejar una parte del tablero oculta.
+     */
+    private static void revealSafeCells(Board board, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < 3; i++) {
+            int row = random.nextInt(board.getRows());
+            int col = random.nextInt(board.getColumns());
+            if (!(board.getBox(row, col) instanceof MinedBox)) {
+                board.revealAdjacent(row, col);
+            }
+        }
+    }
+
+    /**
+     * Recorre todas las combinaciones de minas entre las casillas ocultas y cuenta las que
+     * coinciden con los números revelados.
+     */
+    private static double[] bruteForce(ICellStorage cells, int mines) {
+        int rows = cells.getRows();
+        int columns = cells.getColumns();
+        int[] hidden = new int[rows * columns];
+        int hiddenCount = 0;
+        for (int index = 0; index < rows * columns; index++) {
+            if (!cells.isRevealed(index / columns, index % columns)) {
+                hidden[hiddenCount++] = index;
+            }
+        }
+        double[] minedCount = new double[rows * columns];
+        double total = 0;
+        boolean[] mine = new boolean[rows * columns];
+        int[] chosen = new int[mines];
+        for (int i = 0; i < mines; i++) {
+            chosen[i] = i;
+        }
+        while (true) {
+            for (int i = 0; i < mines; i++) {
+                mine[hidden[chosen[i]]] = true;
+            }
+            if (consistent(cells, mine)) {
+                total++;
+                for (int i = 0; i < mines; i++) {
+                    minedCount[hidden[chosen[i]]]++;
+                }
+            }
+            for (int i = 0; i < mines; i++) {
+                mine[hidden[chosen[i]]] = false;
+            }
+            int i = mines - 1;
+            while (i >= 0 && chosen[i] == hiddenCount - mines + i) {
+                i--;
+            }
+            if (i < 0) {
+                break;
+            }
+            chosen[i]++;
+            for (int j = i + 1; j < mines; j++) {
+                chosen[j] = chosen[j - 1] + 1;
+            }
+        }
+        for (int index = 0; index < minedCount.length; index++) {
+            minedCount[index] /= total;
+        }
+        return minedCount;
+    }
+
+    private static boolean consistent(ICellStorage cells, boolean[] mine) {
+        int rows = cells.getRows();
+        int columns = cells.getColumns();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (!cells.isRevealed(row, col)) {
+                    continue;
+                }
+                int count = 0;
+                for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                    for (int c = Math.max(0, col - 1); c <= Math.min(columns - 1, col + 1); c++) {
+                        count += mine[r * columns + c] ? 1 : 0;
+                    }
+                }
+                if (count != cells.getAdjacentMines(row, col)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Box;
+import examen.models.EmptyBox;
+import examen.models.MinedBox;
+import examen.models.SampledMinePlacer;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampledMinePlacerTest {
+
+    @Test
+    void testSparseBoardPlacesExactMineCount() {
+        Box[][] boxes = emptyBoxes(10, 10);
+
+        new SampledMinePlacer().placeMines(boxes, 12, new Random(42));
+
+        assertEquals(12, countMines(boxes));
+    }
+
+    @Test
+    void testDenseBoardPlacesExactMineCountWithPositions() {
+        Box[][] boxes = emptyBoxes(10, 10);
+
+        new SampledMinePlacer().placeMines(boxes, 99, new Random(42));
+
+        assertEquals(99, countMines(boxes));
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (boxes[i][j] instanceof MinedBox) {
+                    assertTrue(boxes[i][j].isMine());
+                    assertEquals(i, boxes[i][j].getXPosition());
+                    assertEquals(j, boxes[i][j].getYPosition());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCustomRandomSourceIsReproducible() {
+        BitBoardStorage first = new BitBoardStorage(50, 40);
+        BitBoardStorage second = new BitBoardStorage(50, 40);
+
+        new SampledMinePlacer(new SplittableRandom(7)::nextInt).placeMinesInStorage(first, 300, null);
+        new SampledMinePlacer(new SplittableRandom(7)::nextInt).placeMinesInStorage(second, 300, null);
+
+        assertArrayEquals(first.getMinePlane(), second.getMinePlane());
+        assertEquals(300, Arrays.stream(first.getMinePlane()).map(Long::bitCount).sum());
+    }
+
+    @Test
+    void testTooManyMinesIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SampledMinePlacer().placeMines(emptyBoxes(2, 2), 5, new Random()));
+    }
+
+    private Box[][] emptyBoxes(int rows, int columns) {
+        Box[][] boxes = new Box[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                boxes[i][j] = new EmptyBox();
+            }
+        }
+        return boxes;
+    }
+
+    private int countMines(Box[][] boxes) {
+        int count = 0;
+        for (Box[] row : boxes) {
+            for (Box box : row) {
+                if (box instanceof MinedBox) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,95 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.Box;
+import examen.models.EmptyBox;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanlineFloodFillTest {
+
+    @Test
+    void testMatchesRecursiveReferenceOnRandomBoards() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Board board = Board.builder()
+                    .rows(25)
+                    .columns(31)
+                    .totalMines(60)
+                    .random(new Random(seed))
+                    .build();
+            board.generateBoard();
+            boolean[][] expected = new boolean[25][31];
+            Box[][] boxes = board.getBoxes();
+
+            int start = findZeroCell(boxes);
+            if (start < 0) {
+                continue;
+            }
+            int row = start / 31;
+            int col = start % 31;
+            referenceReveal(boxes, expected, row, col);
+            board.revealAdjacent(row, col);
+
+            for (int r = 0; r < 25; r++) {
+                for (int c = 0; c < 31; c++) {
+                    assertEquals(expected[r][c], boxes[r][c].isRevealed(), "Semilla " + seed + " en " + r + "," + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCountsFlagsRemovedDuringCascade() {
+        Board board = Board.builder().rows(6).columns(6).totalMines(0).build();
+        board.generateBoard();
+        board.getBoxes()[0][5].setFlagged(true);
+        board.getBoxes()[5][0].setFlagged(true);
+
+        assertEquals(2, board.revealAdjacent(3, 3));
+        assertTrue(board.allNonMinedBoxesRevealed());
+    }
+
+    @Test
+    void testFullCascadeOnHugeBoardDoesNotOverflow() {
+        Board board = Board.builder()
+                .rows(5000)
+                .columns(5000)
+                .totalMines(0)
+                .storageFactory(BitBoardStorage::new)
+                .build();
+        board.generateBoard();
+
+        assertDoesNotThrow(() -> board.revealAdjacent(2500, 2500));
+        assertTrue(board.getStorage().isRevealed(0, 0));
+        assertTrue(board.getStorage().isRevealed(4999, 4999));
+    }
+
+    private int findZeroCell(Box[][] boxes) {
+        for (int r = 0; r < boxes.length; r++) {
+            for (int c = 0; c < boxes[0].length; c++) {
+                if (boxes[r][c] instanceof EmptyBox && boxes[r][c].getAdjacentMines() == 0) {
+                    return r * boxes[0].length + c;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void referenceReveal(Box[][] boxes, boolean[][] revealed, int row, int col) {
+        if (row < 0 || row >= boxes.length || col < 0 || col >= boxes[0].length || revealed[row][col]) {
+            return;
+        }
+        revealed[row][col] = true;
+        if (boxes[row][col].getAdjacentMines() > 0) {
+            return;
+        }
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                referenceReveal(boxes, revealed, row + dr, col + dc);
+            }
+        }
+    }
+}
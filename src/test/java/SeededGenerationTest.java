@@ -0,0 +1,73 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.MinedBox;
+import examen.models.RandomMinePlacer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededGenerationTest {
+
+    @Test
+    void testSameSeedGivesSameBoard() {
+        Board grid = Board.builder().rows(40).columns(50).totalMines(300).seed(123L)
+                .mineStrategy(new RandomMinePlacer()).build();
+        Board bits = Board.builder().rows(40).columns(50).totalMines(300).seed(123L)
+                .storageFactory(BitBoardStorage::new).build();
+        Board other = Board.builder().rows(40).columns(50).totalMines(300).seed(124L).build();
+        grid.generateBoard();
+        bits.generateBoard();
+        other.generateBoard();
+
+        assertSameMines(grid, bits);
+        assertFalse(sameMines(grid, other));
+
+        grid.generateBoard(); // Regenerar con la misma semilla da el mismo tablero.
+        assertSameMines(bits, grid);
+    }
+
+    @Test
+    void testDeferredBoardIsReproducedFromSeedAndSafeCell() {
+        Board played = Board.builder().rows(16).columns(30).totalMines(99).seed(5L).deferredGeneration(true).build();
+        played.generateBoard();
+        played.revealAdjacent(7, 12);
+        assertEquals(7 * 30 + 12, played.getSafeCell());
+
+        Board replayed = Board.builder().rows(16).columns(30).totalMines(99).seed(5L).deferredGeneration(true)
+                .storageFactory(BitBoardStorage::new).build();
+        replayed.generateBoard();
+        replayed.commitDeferredMines(played.getSafeCell() / 30, played.getSafeCell() % 30);
+
+        assertFalse(replayed.isMinesPending());
+        assertFalse(replayed.getBox(7, 12).isRevealed());
+        assertSameMines(played, replayed);
+    }
+
+    @Test
+    void testUnseededBoardHasNoSeed() {
+        Board board = Board.builder().rows(5).columns(5).totalMines(3).build();
+        board.generateBoard();
+        assertNull(board.getSeed());
+    }
+
+    private static void assertSameMines(Board expected, Board actual) {
+        assertTrue(sameMines(expected, actual));
+        for (int row = 0; row < expected.getRows(); row++) {
+            for (int col = 0; col < expected.getColumns(); col++) {
+                assertEquals(expected.getBox(row, col).getAdjacentMines(), actual.getBox(row, col).getAdjacentMines());
+            }
+        }
+    }
+
+    private static boolean sameMines(Board first, Board second) {
+        for (int row = 0; row < first.getRows(); row++) {
+            for (int col = 0; col < first.getColumns(); col++) {
+                if ((first.getBox(row, col) instanceof MinedBox) != (second.getBox(row, col) instanceof MinedBox)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
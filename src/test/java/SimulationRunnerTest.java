@@ -0,0 +1,46 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.simulation.RandomBotPolicy;
+import examen.simulation.SimulationResult;
+import examen.simulation.SimulationRunner;
+import examen.simulation.SolverBotPolicy;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Test
+    void testSameSeedGivesSameTotalsForAnyParallelism() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(3);
+        try {
+            SimulationResult first = new SimulationRunner(9, 9, 10, () -> new SolverBotPolicy(true),
+                    BitBoardStorage::new, single).run(300, 11L);
+            SimulationResult second = new SimulationRunner(9, 9, 10, () -> new SolverBotPolicy(true),
+                    BitBoardStorage::new, several).run(300, 11L);
+
+            assertEquals(300, first.getGames());
+            assertEquals(first.getWins(), second.getWins());
+            assertEquals(first.getReveals(), second.getReveals());
+            assertEquals(first.getRevealedCells(), second.getRevealedCells());
+            assertTrue(first.getWinRate() > 0.5, "El solucionador gana la mayoría de partidas de principiante");
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    @Test
+    void testRandomPolicyOnGridBoards() {
+        SimulationResult result = new SimulationRunner(16, 16, 40, RandomBotPolicy::new, null,
+                ForkJoinPool.commonPool()).run(200, 3L);
+
+        assertEquals(200, result.getGames());
+        assertTrue(result.getReveals() >= 200, "Cada partida incluye al menos el primer clic");
+        assertTrue(result.getAverageCascadeSize() >= 1);
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.AdjacentMineCalculator;
+import examen.models.BitBoardStorage;
+import examen.models.Box;
+import examen.models.EmptyBox;
+import examen.models.MinedBox;
+import examen.models.RandomMinePlacer;
+import examen.models.SlidingWindowAdjacentMineCalculator;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowAdjacentMineCalculatorTest {
+    private final SlidingWindowAdjacentMineCalculator calculator = new SlidingWindowAdjacentMineCalculator();
+
+    @Test
+    void testMatchesReferenceCalculator() {
+        Box[][] expected = randomBoard(17, 23, 60, 7);
+        Box[][] actual = randomBoard(17, 23, 60, 7);
+
+        new AdjacentMineCalculator().calculateAdjacentMines(expected);
+        calculator.calculateAdjacentMines(actual);
+
+        for (int row = 0; row < 17; row++) {
+            for (int col = 0; col < 23; col++) {
+                assertEquals(expected[row][col].getAdjacentMines(), actual[row][col].getAdjacentMines(),
+                        "Conteo distinto en " + row + "," + col);
+            }
+        }
+    }
+
+    @Test
+    void testSingleColumnBoard() {
+        Box[][] boxes = { { new EmptyBox() }, { new MinedBox() }, { new EmptyBox() } };
+
+        calculator.calculateAdjacentMines(boxes);
+
+        assertEquals(1, boxes[0][0].getAdjacentMines());
+        assertEquals(1, boxes[2][0].getAdjacentMines());
+    }
+
+    @Test
+    void testStorageVariantMatchesBoxVariant() {
+        Box[][] boxes = randomBoard(9, 12, 20, 3);
+        BitBoardStorage storage = new BitBoardStorage(9, 12);
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 12; col++) {
+                storage.setMine(row, col, boxes[row][col] instanceof MinedBox);
+            }
+        }
+
+        calculator.calculateAdjacentMines(boxes);
+        calculator.calculateAdjacentMinesInStorage(storage);
+
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 12; col++) {
+                if (!storage.isMine(row, col)) {
+                    assertEquals(boxes[row][col].getAdjacentMines(), storage.getAdjacentMines(row, col));
+                }
+            }
+        }
+    }
+
+    private Box[][] randomBoard(int rows, int columns, int mines, long seed) {
+        Box[][] boxes = new Box[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                boxes[row][col] = new EmptyBox();
+            }
+        }
+        new RandomMinePlacer().placeMines(boxes, mines, new Random(seed));
+        return boxes;
+    }
+}
@@ -3,7 +3,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import examen.models.BitBoardStorage;
 import examen.models.Board;
+import examen.models.DefaultBoxDisplayStrategy;
 import examen.models.Box;
 import examen.models.EmptyBox;
 import examen.models.MinedBox;
@@ -13,6 +15,7 @@ import examen.models.GameInterfaces.IBoxDisplayStrategy;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -95,4 +98,44 @@ class StandardBoardRendererTest {
         String expectedOutput = "  1 2\nA 1 X\nB ? ?\n";
         assertEquals(expectedOutput, outContent.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGlyphTableMatchesDefaultStrategy() {
+        Board board = Board.builder().rows(12).columns(15).totalMines(30).random(new Random(5))
+                .storageFactory(BitBoardStorage::new).build();
+        board.generateBoard();
+        board.revealAdjacent(0, 0);
+        board.getBox(11, 14).setFlagged(!board.getBox(11, 14).isRevealed());
+
+        DefaultBoxDisplayStrategy strategy = new DefaultBoxDisplayStrategy();
+        StringBuilder expected = new StringBuilder("  1 2 3 4 5 6 7 8 9 10 11 12 13 14 15\n");
+        for (int row = 0; row < 12; row++) {
+            expected.append((char) ('A' + row));
+            for (int col = 0; col < 15; col++) {
+                expected.append(' ').append(strategy.getRepresentation(board.getBox(row, col)));
+            }
+            expected.append('\n');
+        }
+
+        StandardBoardRenderer glyphRenderer = new StandardBoardRenderer(strategy);
+        glyphRenderer.printBoard(board);
+        glyphRenderer.printBoard(board); // El búfer se reutiliza entre fotogramas.
+
+        assertEquals(expected.toString() + expected, outContent.toString());
+    }
+
+    @Test
+    void testSubclassOfDefaultStrategyIsHonoured() {
+        Board board = Board.builder().rows(2).columns(2).totalMines(1).random(new Random(5)).build();
+        board.generateBoard();
+
+        new StandardBoardRenderer(new DefaultBoxDisplayStrategy() {
+            @Override
+            public String getRepresentation(Box box) {
+                return "#";
+            }
+        }).printBoard(board);
+
+        assertEquals("  1 2\nA # #\nB # #\n", outContent.toString());
+    }
+}
@@ -0,0 +1,106 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.DefaultBoxDisplayStrategy;
+import examen.models.StandardBoardRenderer;
+import examen.models.ViewportBoardRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViewportBoardRendererTest {
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void testBoardThatFitsMatchesStandardRenderer() {
+        Board board = createBoard(8, 9);
+        board.revealAdjacent(0, 0);
+
+        new StandardBoardRenderer(new DefaultBoxDisplayStrategy()).printBoard(board);
+        String expected = outContent.toString();
+        outContent.reset();
+        new ViewportBoardRenderer(10, 10).printBoard(board);
+
+        assertEquals(expected, outContent.toString());
+    }
+
+    @Test
+    void testOnlyWindowIsRenderedWithMultiLetterLabels() {
+        Board board = createBoard(40, 40);
+        ViewportBoardRenderer renderer = new ViewportBoardRenderer(3, 4);
+        renderer.centerOn(0, 0);
+        renderer.printBoard(board);
+        renderer.centerOn(27, 10);
+        outContent.reset();
+
+        renderer.printBoard(board);
+
+        String[] lines = outContent.toString().split("\n");
+        assertEquals(5, lines.length, "Encabezado, tres filas y la línea de estado");
+        assertEquals("   9 10 11 12", lines[0]);
+        assertTrue(lines[1].startsWith("AA "));
+        assertTrue(lines[3].startsWith("AC "));
+        assertTrue(lines[4].startsWith("Vista: filas AA-AC de 40, columnas 9-12 de 40"));
+    }
+
+    @Test
+    void testLabelWidthStaysFixedWhilePanning() {
+        Board board = createBoard(40, 40);
+        ViewportBoardRenderer renderer = new ViewportBoardRenderer(3, 4);
+        renderer.printBoard(board);
+        String[] top = outContent.toString().split("\n");
+        renderer.pan(24, 0); // Filas Y-AA: cruza de una a dos letras.
+        outContent.reset();
+
+        renderer.printBoard(board);
+
+        String[] crossing = outContent.toString().split("\n");
+        assertEquals("   1 2 3 4", top[0]);
+        assertEquals(top[0], crossing[0]);
+        assertTrue(top[1].startsWith("A  "));
+        assertTrue(crossing[1].startsWith("Y  "));
+        assertTrue(crossing[3].startsWith("AA "));
+    }
+
+    @Test
+    void testPanIsClampedToBoard() {
+        ViewportBoardRenderer renderer = new ViewportBoardRenderer(5, 5);
+        renderer.printBoard(createBoard(12, 8));
+
+        renderer.pan(100, 100);
+        assertEquals(7, renderer.getTopRow());
+        assertEquals(3, renderer.getLeftColumn());
+
+        renderer.pan(-100, -1);
+        assertEquals(0, renderer.getTopRow());
+        assertEquals(2, renderer.getLeftColumn());
+
+        renderer.ensureVisible(11, 0);
+        assertEquals(7, renderer.getTopRow());
+        assertEquals(0, renderer.getLeftColumn());
+    }
+
+    private Board createBoard(int rows, int columns) {
+        Board board = Board.builder().rows(rows).columns(columns).totalMines(rows * columns / 10)
+                .random(new Random(21)).storageFactory(BitBoardStorage::new).build();
+        board.generateBoard();
+        return board;
+    }
+}
@@ -0,0 +1,90 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.Board;
+import examen.models.Game;
+import examen.models.Player;
+import examen.repositories.GamePersistenceInterface;
+import examen.repositories.WriteBehindGamePersistence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindGamePersistenceTest {
+
+    /**
+     * Gestor en memoria que registra cada escritura recibida.
+     */
+    static class RecordingPersistence implements GamePersistenceInterface {
+        final List<Integer> savedFlagCounts = new ArrayList<>();
+        int clears;
+
+        @Override
+        public IGameLoadResult loadGameState() {
+            return null;
+        }
+
+        @Override
+        public synchronized void saveGameState(Game game) {
+            savedFlagCounts.add(game.getBoard().getFlagCount());
+        }
+
+        @Override
+        public synchronized void clearGameState() {
+            clears++;
+        }
+    }
+
+    @Test
+    void testSavesWithinWindowAreCoalesced() {
+        RecordingPersistence delegate = new RecordingPersistence();
+        WriteBehindGamePersistence persistence = new WriteBehindGamePersistence(delegate, 10_000);
+        Game game = createGame();
+
+        for (int col = 0; col < 5; col++) {
+            game.getBoard().getBox(0, col).setFlagged(true);
+            persistence.saveMove(game, 0, col);
+        }
+        assertTrue(delegate.savedFlagCounts.isEmpty(), "No se escribe en el hilo que llama");
+
+        persistence.flush();
+        assertEquals(List.of(5), delegate.savedFlagCounts);
+        persistence.close();
+    }
+
+    @Test
+    void testSnapshotIsIsolatedFromLaterMoves() {
+        RecordingPersistence delegate = new RecordingPersistence();
+        WriteBehindGamePersistence persistence = new WriteBehindGamePersistence(delegate, 10_000);
+        Game game = createGame();
+
+        game.getBoard().getBox(1, 1).setFlagged(true);
+        persistence.saveGameState(game);
+        game.getBoard().getBox(2, 2).setFlagged(true); // Cambio posterior al guardado.
+
+        persistence.flush();
+        assertEquals(List.of(1), delegate.savedFlagCounts);
+        persistence.close();
+    }
+
+    @Test
+    void testClearReplacesPendingSave() {
+        RecordingPersistence delegate = new RecordingPersistence();
+        WriteBehindGamePersistence persistence = new WriteBehindGamePersistence(delegate, 10_000);
+
+        persistence.saveGameState(createGame());
+        persistence.clearGameState();
+        persistence.flush();
+
+        assertTrue(delegate.savedFlagCounts.isEmpty());
+        assertEquals(1, delegate.clears);
+        persistence.close();
+    }
+
+    private Game createGame() {
+        Board board = Board.builder().rows(5).columns(5).totalMines(5).build();
+        board.generateBoard();
+        return Game.builder().board(board).player(Player.builder().name("Jugador").build()).build();
+    }
+}
@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Test;
+
+import examen.models.BitBoardStorage;
+import examen.models.Board;
+import examen.models.BoardDelta;
+import examen.models.MinedBox;
+import examen.models.ZeroRegionIndex;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZeroRegionIndexTest {
+
+    @Test
+    void testBulkRevealMatchesFloodFill() {
+        for (long seed = 1; seed <= 15; seed++) {
+            Board indexed = createBoard(seed, true);
+            Board reference = createBoard(seed, false);
+            assertNotNull(indexed.getZeroRegions());
+            assertNull(reference.getZeroRegions());
+
+            Random moves = new Random(seed);
+            for (int i = 0; i < 20; i++) {
+                int row = moves.nextInt(30);
+                int col = moves.nextInt(45);
+                if (moves.nextInt(4) == 0) {
+                    indexed.getBox(row, col).setFlagged(true);
+                    reference.getBox(row, col).setFlagged(true);
+                } else if (!(indexed.getBox(row, col) instanceof MinedBox)) {
+                    assertEquals(reference.revealAdjacent(row, col), indexed.revealAdjacent(row, col));
+                }
+            }
+
+            for (int row = 0; row < 30; row++) {
+                for (int col = 0; col < 45; col++) {
+                    assertEquals(reference.getBox(row, col).isRevealed(), indexed.getBox(row, col).isRevealed(),
+                            "Semilla " + seed + " en " + row + "," + col);
+                    assertEquals(reference.getBox(row, col).isFlagged(), indexed.getBox(row, col).isFlagged());
+                }
+            }
+            assertEquals(reference.getHiddenSafeCount(), indexed.getHiddenSafeCount());
+            assertEquals(reference.getFlagCount(), indexed.getFlagCount());
+        }
+    }
+
+    @Test
+    void testRegionsOfEmptyBoard() {
+        Board board = Board.builder().rows(10).columns(12).totalMines(0)
+                .precomputeZeroRegions(true).build();
+        board.generateBoard();
+        ZeroRegionIndex index = board.getZeroRegions();
+
+        assertEquals(1, index.getRegionCount());
+        assertEquals(120, index.regionSize(0));
+
+        BoardDelta delta = new BoardDelta(12);
+        board.revealAdjacent(4, 4, delta);
+        assertEquals(120, delta.getRevealedCount());
+        assertTrue(board.allNonMinedBoxesRevealed());
+    }
+
+    @Test
+    void testSnapshotSharesIndex() {
+        Board board = createBoard(3, true);
+        assertSame(board.getZeroRegions(), board.snapshot().getZeroRegions());
+    }
+
+    private Board createBoard(long seed, boolean precompute) {
+        Board board = Board.builder().rows(30).columns(45).totalMines(150).random(new Random(seed))
+                .storageFactory(BitBoardStorage::new).precomputeZeroRegions(precompute).build();
+        board.generateBoard();
+        return board;
+    }
+}